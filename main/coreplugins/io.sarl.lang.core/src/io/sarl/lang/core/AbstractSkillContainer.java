@@ -191,6 +191,13 @@ public abstract class AbstractSkillContainer extends AgentProtectedAPIObject imp
 	@Override
 	@Pure
 	protected AtomicSkillReference $getSkill(Class<? extends Capacity> capacity) {
+		// Fast path: the skill is already installed. The get() function of the ConcurrentHashMap
+		// does not lock the map's bin, in opposite to compute(). Because the installed skills are
+		// rarely changed, most of the accesses to the capacities are following this path.
+		final AtomicSkillReference installedReference = $getSkillRepository().get(capacity);
+		if (installedReference != null && installedReference.get() != null) {
+			return installedReference;
+		}
 		// CAUTION: We must create the default skill in a thread-safe process.
 		// To do so, the creation must be done into the ConcurrentHahMap function, and not
 		// into the code of the AbstractSkillContainer.
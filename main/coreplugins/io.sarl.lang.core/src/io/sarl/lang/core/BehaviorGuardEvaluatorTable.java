@@ -0,0 +1,148 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2021 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.lang.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Dispatch table of the guard evaluators that are declared into a type of event receiver.
+ *
+ * <p>The table is filled once per receiver type, usually from a static field that is generated by the SARL compiler.
+ * The guard evaluators to call for a given type of event, including the evaluators that are declared
+ * for the super types of the event, are computed at the first use of this event type and cached.
+ * The guard evaluators are called in the order they are added into the table.
+ *
+ * @param <T> the type of the event receivers.
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.13
+ */
+public final class BehaviorGuardEvaluatorTable<T> {
+
+	private static final GuardEvaluator<?>[] EMPTY = new GuardEvaluator<?>[0];
+
+	private final List<Class<? extends Event>> eventTypes = new ArrayList<>();
+
+	private final List<GuardEvaluator<? super T>> evaluators = new ArrayList<>();
+
+	private final ClassValue<GuardEvaluator<?>[]> dispatchCache = new ClassValue<GuardEvaluator<?>[]>() {
+		@Override
+		protected GuardEvaluator<?>[] computeValue(Class<?> type) {
+			return buildDispatch(type);
+		}
+	};
+
+	private BehaviorGuardEvaluatorTable() {
+		//
+	}
+
+	/** Create an empty table.
+	 *
+	 * @param <T> the type of the event receivers.
+	 * @param receiverType the type of the event receivers.
+	 * @return the table.
+	 */
+	public static <T> BehaviorGuardEvaluatorTable<T> create(Class<T> receiverType) {
+		return new BehaviorGuardEvaluatorTable<>();
+	}
+
+	/** Add a guard evaluator into the table.
+	 * This function must be invoked before the first evaluation of an event.
+	 *
+	 * @param eventType the type of the events that are supported by the guard evaluator.
+	 * @param evaluator the guard evaluator.
+	 * @return {@code this}.
+	 */
+	public BehaviorGuardEvaluatorTable<T> add(Class<? extends Event> eventType, GuardEvaluator<? super T> evaluator) {
+		assert eventType != null;
+		assert evaluator != null;
+		this.eventTypes.add(eventType);
+		this.evaluators.add(evaluator);
+		return this;
+	}
+
+	private GuardEvaluator<?>[] buildDispatch(Class<?> type) {
+		final List<GuardEvaluator<?>> dispatch = new ArrayList<>();
+		final int size = this.eventTypes.size();
+		for (int i = 0; i < size; ++i) {
+			if (this.eventTypes.get(i).isAssignableFrom(type)) {
+				dispatch.add(this.evaluators.get(i));
+			}
+		}
+		if (dispatch.isEmpty()) {
+			return EMPTY;
+		}
+		return dispatch.toArray(new GuardEvaluator<?>[dispatch.size()]);
+	}
+
+	/** Evaluate the guards that are associated to the type of the given event.
+	 *
+	 * @param receiver the receiver of the event.
+	 * @param event the event to evaluate.
+	 * @param callbacks the collection of callbacks to run.
+	 */
+	@SuppressWarnings("unchecked")
+	public void evaluate(T receiver, Object event, Collection<Runnable> callbacks) {
+		if (event != null) {
+			for (final GuardEvaluator<?> evaluator : this.dispatchCache.get(event.getClass())) {
+				((GuardEvaluator<? super T>) evaluator).evaluate(receiver, event, callbacks);
+			}
+		}
+	}
+
+	/** Replies if the given type of event is supported by at least one guard evaluator.
+	 *
+	 * @param event the type of event.
+	 * @return {@code true} if the event type is supported.
+	 */
+	public boolean isSupportedEvent(Class<? extends Event> event) {
+		return event != null && this.dispatchCache.get(event).length > 0;
+	}
+
+	/**
+	 * Guard evaluator for a specific type of event.
+	 *
+	 * @param <T> the type of the event receivers.
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 0.13
+	 */
+	@FunctionalInterface
+	public interface GuardEvaluator<T> {
+
+		/** Evaluate the guards for the given event.
+		 *
+		 * @param receiver the receiver of the event.
+		 * @param event the event to evaluate. It is an instance of the event type that is associated to this evaluator.
+		 * @param callbacks the collection of callbacks to run.
+		 */
+		void evaluate(T receiver, Object event, Collection<Runnable> callbacks);
+
+	}
+
+}
@@ -37,6 +37,8 @@ import org.eclipse.xtext.xbase.compiler.output.ITreeAppendable;
 import org.eclipse.xtext.xbase.lib.Pure;
 
 import io.sarl.lang.SARLConfig;
+import io.sarl.lang.annotation.InlinableGuardEvaluator;
+import io.sarl.lang.jvmmodel.InlinableGuardEvaluatorAdapter;
 import io.sarl.lang.jvmmodel.SARLJvmModelInferrer;
 import io.sarl.lang.typesystem.IOperationHelper;
 import io.sarl.lang.util.Utils;
@@ -46,6 +48,8 @@ import io.sarl.lang.util.Utils;
  * <p>This generator:<ul>
  * <li>forces the JvmOperation to be annotated with <code>@Pure</code>
  * dynamically.</li>
+ * <li>forces the guard evaluators to be annotated with <code>@InlinableGuardEvaluator</code>
+ * dynamically.</li>
  * <li>Generate static initialization block from a static constructor;</li>
  * <li>Generate the files into the standard output folder or the unit test output folder.</li>
  * </ul>
@@ -95,6 +99,10 @@ public class SARLJvmGenerator extends XtendGenerator {
 				&& this.annotations.findAnnotation(it, Pure.class) == null) {
 			tracedAppendable.append("@").append(Pure.class).newLine(); //$NON-NLS-1$
 		}
+		if (InlinableGuardEvaluatorAdapter.isInlinable(it)
+				&& this.annotations.findAnnotation(it, InlinableGuardEvaluator.class) == null) {
+			tracedAppendable.append("@").append(InlinableGuardEvaluator.class).newLine(); //$NON-NLS-1$
+		}
 		generateModifier(it, tracedAppendable, config);
 		generateTypeParameterDeclaration(it, tracedAppendable, config);
 		if (it.getReturnType() == null) {
@@ -43,6 +43,7 @@ import org.eclipse.xtext.common.types.JvmType;
 import org.eclipse.xtext.common.types.JvmTypeReference;
 import org.eclipse.xtext.common.types.util.AnnotationLookup;
 import org.eclipse.xtext.util.JavaVersion;
+import org.eclipse.xtext.xbase.XExpression;
 import org.eclipse.xtext.xbase.compiler.GeneratorConfig;
 import org.eclipse.xtext.xbase.compiler.IGeneratorConfigProvider;
 import org.eclipse.xtext.xbase.compiler.output.ITreeAppendable;
@@ -130,6 +131,14 @@ abstract class GenerationContext {
 	private final Map<String, Pair<SarlBehaviorUnit, Collection<Procedure1<? super ITreeAppendable>>>> guardEvaluators
 			= CollectionLiterals.newHashMap();
 
+	/** Identifiers of the events for which the guard evaluators cannot be evaluated inline.
+	 */
+	private final Set<String> notInlinableGuardEvaluators = CollectionLiterals.newHashSet();
+
+	/** Guards that are candidates for an inline evaluation. The keys are the event identifiers.
+	 */
+	private final Map<String, List<XExpression>> inlinableGuards = CollectionLiterals.newHashMap();
+
 	/** The context object.
 	 */
 	private EObject contextObject;
@@ -266,6 +275,62 @@ abstract class GenerationContext {
 		return evaluators;
 	}
 
+	/** Mark the guard evaluator for the event of the given source as not inlinable.
+	 * It means that the guard evaluator must not be evaluated on the thread of the event dispatcher.
+	 *
+	 * @param source the source of the guard evaluation.
+	 * @since 0.13
+	 */
+	public void setGuardEvaluationNotInlinable(SarlBehaviorUnit source) {
+		assert source != null;
+		this.notInlinableGuardEvaluators.add(source.getName().getIdentifier());
+	}
+
+	/** Replies if the guard evaluator for the event of the given source could be evaluated inline.
+	 *
+	 * @param source the source of the guard evaluation.
+	 * @return {@code true} if all the guards for the event are inlinable.
+	 * @since 0.13
+	 */
+	public boolean isGuardEvaluationInlinable(SarlBehaviorUnit source) {
+		assert source != null;
+		return !this.notInlinableGuardEvaluators.contains(source.getName().getIdentifier());
+	}
+
+	/** Add a guard for the event of the given source that is a candidate for an inline evaluation.
+	 * The guard is checked again when the Java code is generated, because its features are not
+	 * linked yet.
+	 *
+	 * @param source the source of the guard evaluation.
+	 * @param guard the guard.
+	 * @since 0.13
+	 */
+	public void addInlinableGuard(SarlBehaviorUnit source, XExpression guard) {
+		assert source != null;
+		assert guard != null;
+		List<XExpression> guards = this.inlinableGuards.get(source.getName().getIdentifier());
+		if (guards == null) {
+			guards = new ArrayList<>();
+			this.inlinableGuards.put(source.getName().getIdentifier(), guards);
+		}
+		guards.add(guard);
+	}
+
+	/** Replies the guards for the event of the given source that are candidates for an inline evaluation.
+	 *
+	 * @param source the source of the guard evaluation.
+	 * @return the guards, never {@code null}.
+	 * @since 0.13
+	 */
+	public List<XExpression> getInlinableGuards(SarlBehaviorUnit source) {
+		assert source != null;
+		final List<XExpression> guards = this.inlinableGuards.get(source.getName().getIdentifier());
+		if (guards == null) {
+			return Collections.emptyList();
+		}
+		return Collections.unmodifiableList(guards);
+	}
+
 	/** Replies the computed serial number.
 	 *
 	 * @return the serial number.
@@ -548,6 +613,8 @@ abstract class GenerationContext {
 		this.preFinalization.clear();
 		this.postFinalization.clear();
 		this.guardEvaluators.clear();
+		this.notInlinableGuardEvaluators.clear();
+		this.inlinableGuards.clear();
 	}
 
 	/** Replies the context object.
@@ -0,0 +1,94 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2021 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.lang.jvmmodel;
+
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.xtext.common.types.JvmOperation;
+import org.eclipse.xtext.xbase.lib.Functions.Function0;
+
+import io.sarl.lang.annotation.InlinableGuardEvaluator;
+
+/** Adapter that decides, when the Java code is generated, if a guard evaluator
+ * is marked with {@link InlinableGuardEvaluator}.
+ *
+ * <p>The features that are called by the guards are not linked when the JVM model is inferred.
+ * The decision is delayed to the generation of the Java code for having access to these features.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.13
+ */
+public final class InlinableGuardEvaluatorAdapter extends AdapterImpl {
+
+	private Function0<? extends Boolean> predicate;
+
+	private Boolean inlinable;
+
+	private InlinableGuardEvaluatorAdapter(Function0<? extends Boolean> predicate) {
+		this.predicate = predicate;
+	}
+
+	/** Attach the predicate that replies if the given guard evaluator could be evaluated inline.
+	 *
+	 * @param operation the guard evaluator.
+	 * @param predicate the predicate to evaluate when the Java code is generated.
+	 */
+	public static void attach(JvmOperation operation, Function0<? extends Boolean> predicate) {
+		if (operation != null && predicate != null) {
+			operation.eAdapters().add(new InlinableGuardEvaluatorAdapter(predicate));
+		}
+	}
+
+	/** Replies if the given operation is a guard evaluator that could be evaluated inline.
+	 *
+	 * @param operation the operation to test.
+	 * @return {@code true} if the operation could be marked with {@link InlinableGuardEvaluator}.
+	 */
+	public static boolean isInlinable(JvmOperation operation) {
+		if (operation != null) {
+			final InlinableGuardEvaluatorAdapter adapter = (InlinableGuardEvaluatorAdapter) EcoreUtil.getAdapter(
+					operation.eAdapters(), InlinableGuardEvaluatorAdapter.class);
+			if (adapter != null) {
+				return adapter.evaluate();
+			}
+		}
+		return false;
+	}
+
+	private synchronized boolean evaluate() {
+		if (this.inlinable == null) {
+			final Boolean bool = this.predicate.apply();
+			this.inlinable = Boolean.valueOf(bool != null && bool.booleanValue());
+			this.predicate = null;
+		}
+		return this.inlinable.booleanValue();
+	}
+
+	@Override
+	public boolean isAdapterForType(Object type) {
+		return type == InlinableGuardEvaluatorAdapter.class;
+	}
+
+}
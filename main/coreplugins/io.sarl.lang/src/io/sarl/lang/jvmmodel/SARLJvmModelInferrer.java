@@ -107,11 +107,22 @@ import org.eclipse.xtext.common.types.TypesFactory;
 import org.eclipse.xtext.common.types.util.AnnotationLookup;
 import org.eclipse.xtext.common.types.util.TypeReferences;
 import org.eclipse.xtext.linking.ILinker;
+import org.eclipse.xtext.xbase.XAbstractFeatureCall;
 import org.eclipse.xtext.xbase.XAssignment;
+import org.eclipse.xtext.xbase.XBinaryOperation;
 import org.eclipse.xtext.xbase.XBlockExpression;
 import org.eclipse.xtext.xbase.XBooleanLiteral;
+import org.eclipse.xtext.xbase.XCastedExpression;
 import org.eclipse.xtext.xbase.XConstructorCall;
 import org.eclipse.xtext.xbase.XExpression;
+import org.eclipse.xtext.xbase.XFeatureCall;
+import org.eclipse.xtext.xbase.XInstanceOfExpression;
+import org.eclipse.xtext.xbase.XMemberFeatureCall;
+import org.eclipse.xtext.xbase.XNullLiteral;
+import org.eclipse.xtext.xbase.XNumberLiteral;
+import org.eclipse.xtext.xbase.XStringLiteral;
+import org.eclipse.xtext.xbase.XTypeLiteral;
+import org.eclipse.xtext.xbase.XUnaryOperation;
 import org.eclipse.xtext.xbase.XVariableDeclaration;
 import org.eclipse.xtext.xbase.compiler.GeneratorConfig;
 import org.eclipse.xtext.xbase.compiler.output.ITreeAppendable;
@@ -157,6 +168,7 @@ import io.sarl.lang.core.Agent;
 import io.sarl.lang.core.AgentTrait;
 import io.sarl.lang.core.AtomicSkillReference;
 import io.sarl.lang.core.Behavior;
+import io.sarl.lang.core.BehaviorGuardEvaluatorTable;
 import io.sarl.lang.core.Capacity;
 import io.sarl.lang.core.Event;
 import io.sarl.lang.core.Skill;
@@ -229,6 +241,10 @@ public class SARLJvmModelInferrer extends XtendJvmModelInferrer {
 
 	private static final String GENERATED_NAME = Generated.class.getName();
 
+	/** Maximal number of expressions into a guard that could be evaluated inline.
+	 */
+	private static final int MAX_INLINABLE_GUARD_SIZE = 16;
+
 	/** See the filter in the super class.
 	 */
 	private static final Predicate<JvmAnnotationReference> ANNOTATION_TRANSLATION_FILTER = annotation -> {
@@ -2138,6 +2154,11 @@ public class SARLJvmModelInferrer extends XtendJvmModelInferrer {
 				if (context.getGeneratorConfig2().isGeneratePureAnnotation()) {
 					addAnnotationSafe(guardOperation, Pure.class);
 				}
+				if (isInlinableGuard(guard)) {
+					context.addInlinableGuard(source, guard);
+				} else {
+					context.setGuardEvaluationNotInlinable(source);
+				}
 
 				//------------------
 				// Handler function
@@ -2646,6 +2667,41 @@ public class SARLJvmModelInferrer extends XtendJvmModelInferrer {
 			boolean isRootType, JvmGenericType container, GenerationContext context) {
 		final JvmTypeReference voidType = this._typeReferenceBuilder.typeRef(Void.TYPE);
 
+		// Field "$GUARD_EVALUATOR_TABLE": dispatch table that is shared by all the instances of the container
+		final String tableName = Utils.createNameForHiddenGuardEvaluatorTableAttribute();
+		final JvmField tableField = this.typesFactory.createJvmField();
+		tableField.setSimpleName(tableName);
+		tableField.setVisibility(JvmVisibility.PRIVATE);
+		tableField.setStatic(true);
+		tableField.setTransient(false);
+		tableField.setVolatile(false);
+		tableField.setFinal(true);
+		container.getMembers().add(tableField);
+		tableField.setType(this._typeReferenceBuilder.typeRef(BehaviorGuardEvaluatorTable.class,
+				this._typeReferenceBuilder.typeRef(container)));
+		this.typeBuilder.setInitializer(tableField, it -> {
+			it.append(BehaviorGuardEvaluatorTable.class);
+			it.append(".create("); //$NON-NLS-1$
+			it.append(container);
+			it.append(".class)"); //$NON-NLS-1$
+			it.increaseIndentation();
+			for (final Entry<JvmTypeReference, Set<String>> entry : guardDefs.entrySet()) {
+				for (final String meth : entry.getValue()) {
+					it.newLine();
+					it.append(".add("); //$NON-NLS-1$
+					it.append(entry.getKey().getType());
+					it.append(".class, (receiver, event, callbacks) -> receiver."); //$NON-NLS-1$
+					it.append(meth);
+					it.append("(("); //$NON-NLS-1$
+					it.append(entry.getKey().getType());
+					it.append(") event, callbacks))"); //$NON-NLS-1$
+				}
+			}
+			it.decreaseIndentation();
+		});
+		appendGeneratedAnnotation(tableField, context);
+		this.readAndWriteTracking.markInitialized(tableField, null);
+
 		// Function "$getSupportedEvents"
 		final JvmOperation eventTypeOperation = this.typesFactory.createJvmOperation();
 		appendGeneratedAnnotation(eventTypeOperation, context);
@@ -2706,21 +2762,11 @@ public class SARLJvmModelInferrer extends XtendJvmModelInferrer {
 		container.getMembers().add(eventSupportOperation);
 
 		setBody(eventSupportOperation, it -> {
-			for (final JvmTypeReference type : guardDefs.keySet()) {
-				it.append("if ("); //$NON-NLS-1$
-				it.append(type.getType());
-				it.append(".class.isAssignableFrom(event)) {"); //$NON-NLS-1$
-				it.increaseIndentation().newLine();
-				it.append("return true;"); //$NON-NLS-1$
-				it.decreaseIndentation().newLine();
-				it.append("}"); //$NON-NLS-1$
-				it.newLine();
-			}
 			it.append("return "); //$NON-NLS-1$
-			if (isRootType) {
-				it.append("false"); //$NON-NLS-1$
-			} else {
-				it.append("super.$isSupportedEvent(event)"); //$NON-NLS-1$
+			it.append(tableName);
+			it.append(".isSupportedEvent(event)"); //$NON-NLS-1$
+			if (!isRootType) {
+				it.append(" || super.$isSupportedEvent(event)"); //$NON-NLS-1$
 			}
 			it.append(";"); //$NON-NLS-1$
 		});
@@ -2756,25 +2802,9 @@ public class SARLJvmModelInferrer extends XtendJvmModelInferrer {
 
 		setBody(evaluateOperation, it -> {
 			it.append("super.$evaluateBehaviorGuards(event, callbacks);"); //$NON-NLS-1$
-			for (final Entry<JvmTypeReference, Set<String>> entry : guardDefs.entrySet()) {
-				it.newLine();
-				it.append("if (event instanceof "); //$NON-NLS-1$
-				it.append(entry.getKey().getType());
-				it.append(") {"); //$NON-NLS-1$
-				it.increaseIndentation().newLine();
-				it.append("final "); //$NON-NLS-1$
-				it.append(entry.getKey().getType());
-				it.append(" occurrence = ("); //$NON-NLS-1$
-				it.append(entry.getKey().getType());
-				it.append(") event;"); //$NON-NLS-1$
-				for (final String meth : entry.getValue()) {
-					it.newLine();
-					it.append(meth);
-					it.append("(occurrence, callbacks);"); //$NON-NLS-1$
-				}
-				it.decreaseIndentation().newLine();
-				it.append("}"); //$NON-NLS-1$
-			}
+			it.newLine();
+			it.append(tableName);
+			it.append(".evaluate(this, event, callbacks);"); //$NON-NLS-1$
 		});
 	}
 
@@ -2803,6 +2833,17 @@ public class SARLJvmModelInferrer extends XtendJvmModelInferrer {
 
 		appendGeneratedAnnotation(operation, context);
 		addAnnotationSafe(operation, PerceptGuardEvaluator.class);
+		if (context.isGuardEvaluationInlinable(source)) {
+			final List<XExpression> guards = new ArrayList<>(context.getInlinableGuards(source));
+			InlinableGuardEvaluatorAdapter.attach(operation, () -> {
+				for (final XExpression guard : guards) {
+					if (!isLinkedInlinableGuard(guard)) {
+						return Boolean.FALSE;
+					}
+				}
+				return Boolean.TRUE;
+			});
+		}
 
 		// Guard evaluator unit parameters
 		// - Event occurrence
@@ -2848,6 +2889,95 @@ public class SARLJvmModelInferrer extends XtendJvmModelInferrer {
 		return behName;
 	}
 
+	/** Replies if the given guard is a candidate for being evaluated inline by the event dispatcher.
+	 *
+	 * <p>The guard must be small, and built only with literals, accesses to features without argument,
+	 * type tests and operators. Because the features are not linked yet, the candidate is checked again
+	 * with {@link #isLinkedInlinableGuard(XExpression)} when the Java code is generated.
+	 *
+	 * @param guard the guard to test.
+	 * @return {@code true} if the guard could be evaluated inline.
+	 * @since 0.13
+	 */
+	protected boolean isInlinableGuard(XExpression guard) {
+		if (!isInlinableGuardComponent(guard)) {
+			return false;
+		}
+		int size = 1;
+		final TreeIterator<EObject> iterator = guard.eAllContents();
+		while (iterator.hasNext()) {
+			final EObject child = iterator.next();
+			if (child instanceof XExpression) {
+				++size;
+				if (size > MAX_INLINABLE_GUARD_SIZE || !isInlinableGuardComponent((XExpression) child)) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	private static boolean isInlinableGuardComponent(XExpression expr) {
+		if (expr instanceof XBinaryOperation || expr instanceof XUnaryOperation) {
+			return true;
+		}
+		if (expr instanceof XMemberFeatureCall) {
+			final XMemberFeatureCall call = (XMemberFeatureCall) expr;
+			return !call.isExplicitOperationCall() && call.getMemberCallArguments().isEmpty();
+		}
+		if (expr instanceof XFeatureCall) {
+			final XFeatureCall call = (XFeatureCall) expr;
+			return !call.isExplicitOperationCall() && call.getFeatureCallArguments().isEmpty();
+		}
+		return expr instanceof XBooleanLiteral
+				|| expr instanceof XNumberLiteral
+				|| expr instanceof XStringLiteral
+				|| expr instanceof XNullLiteral
+				|| expr instanceof XTypeLiteral
+				|| expr instanceof XInstanceOfExpression
+				|| expr instanceof XCastedExpression;
+	}
+
+	/** Replies if the given linked guard is cheap enough for being evaluated inline by the event dispatcher.
+	 *
+	 * <p>The guard must have no side effect, and the features that it calls must be fields,
+	 * parameters, local variables, types, or pure operators.
+	 *
+	 * @param guard the guard to test, with its features linked.
+	 * @return {@code true} if the guard could be evaluated inline.
+	 * @since 0.13
+	 */
+	protected boolean isLinkedInlinableGuard(XExpression guard) {
+		if (!isLinkedInlinableGuardComponent(guard)) {
+			return false;
+		}
+		final TreeIterator<EObject> iterator = guard.eAllContents();
+		while (iterator.hasNext()) {
+			final EObject child = iterator.next();
+			if (child instanceof XExpression && !isLinkedInlinableGuardComponent((XExpression) child)) {
+				return false;
+			}
+		}
+		return !this.operationHelper.hasSideEffects(null, guard);
+	}
+
+	private boolean isLinkedInlinableGuardComponent(XExpression expr) {
+		if (expr instanceof XAbstractFeatureCall) {
+			final JvmIdentifiableElement feature = ((XAbstractFeatureCall) expr).getFeature();
+			if (feature == null || feature.eIsProxy()) {
+				return false;
+			}
+			if (expr instanceof XBinaryOperation || expr instanceof XUnaryOperation) {
+				return feature instanceof JvmOperation && this.operationHelper.isPureOperation((JvmOperation) feature);
+			}
+			return feature instanceof JvmField
+					|| feature instanceof JvmFormalParameter
+					|| feature instanceof XVariableDeclaration
+					|| feature instanceof JvmType;
+		}
+		return true;
+	}
+
 	/** Append the @FunctionalInterface to the given type if it is a functional interface according
 	 * to the Java 8 specification definition.
 	 *
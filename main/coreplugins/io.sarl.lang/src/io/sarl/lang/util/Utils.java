@@ -142,6 +142,8 @@ public final class Utils {
 	private static final String PREFIX_GUARD_EVALUATOR = HIDDEN_MEMBER_CHARACTER + "guardEvaluator" //$NON-NLS-1$
 			+ HIDDEN_MEMBER_CHARACTER;
 
+	private static final String GUARD_EVALUATOR_TABLE = HIDDEN_MEMBER_CHARACTER + "GUARD_EVALUATOR_TABLE"; //$NON-NLS-1$
+
 	private static final String PREFIX_GUARD = HIDDEN_MEMBER_CHARACTER + "behaviorUnitGuard" //$NON-NLS-1$
 			+ HIDDEN_MEMBER_CHARACTER;
 
@@ -490,6 +492,15 @@ public final class Utils {
 		return PREFIX_GUARD_EVALUATOR + fixHiddenMember(eventId);
 	}
 
+	/** Create the name of the hidden attribute that is containing the dispatch table of the guard evaluators.
+	 *
+	 * @return the attribute name.
+	 * @since 0.13
+	 */
+	public static String createNameForHiddenGuardEvaluatorTableAttribute() {
+		return GUARD_EVALUATOR_TABLE;
+	}
+
 	/** Create the name of the hidden method that is containing the event guard evaluation.
 	 *
 	 * @param eventId the id of the event.
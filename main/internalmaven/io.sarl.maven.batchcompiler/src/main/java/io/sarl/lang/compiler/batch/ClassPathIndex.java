@@ -0,0 +1,422 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2021 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.lang.compiler.batch;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+/** Index of the entries of the archives that are on the class path.
+ *
+ * <p>The index of an archive contains the names of the files, e.g. the class files, and of the folders
+ * that are inside the archive.
+ * It enables to know if a type or a resource is on the class path without opening the archives.
+ * The index of each archive is stored into a file of the cache directory, and this file is memory-mapped
+ * when the index is loaded. The index file is reused as long as the archive has the same path, size and
+ * modification date. If no cache directory is provided, the indexes are kept in memory only.
+ *
+ * <p>The index file starts with a header that contains the size and the modification date of the archive.
+ * It is followed by the number of entries, the offsets of the entries' names, and the entries' names encoded
+ * in UTF-8. The names are sorted by their bytes in order to enable a binary search into the mapped file.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.13
+ */
+public class ClassPathIndex {
+
+	private static final int MAGIC_NUMBER = 0x53415249;
+
+	private static final int FORMAT_VERSION = 1;
+
+	private static final int HEADER_SIZE = 4 + 4 + 8 + 8 + 4;
+
+	private static final String INDEX_FILE_EXTENSION = ".idx"; //$NON-NLS-1$
+
+	private static final String MULTI_RELEASE_PREFIX = "META-INF/versions/"; //$NON-NLS-1$
+
+	private static final int BYTE_MASK = 0xFF;
+
+	private final File cacheDirectory;
+
+	private final Map<String, ArchiveIndex> archives = new HashMap<>();
+
+	/** Constructor.
+	 *
+	 * @param cacheDirectory the directory in which the index files are stored. If it is {@code null},
+	 *     the indexes are not stored on the disk.
+	 */
+	public ClassPathIndex(File cacheDirectory) {
+		this.cacheDirectory = cacheDirectory;
+	}
+
+	/** Replies the directory in which the index files are stored.
+	 *
+	 * @return the directory, or {@code null} if the indexes are not stored on the disk.
+	 */
+	@Pure
+	public File getCacheDirectory() {
+		return this.cacheDirectory;
+	}
+
+	/** Replies the index of the given archive.
+	 *
+	 * @param archive the archive.
+	 * @return the index of the archive, or {@code null} if the archive cannot be read.
+	 */
+	public synchronized ArchiveIndex getArchiveIndex(File archive) {
+		final File absArchive = archive.getAbsoluteFile();
+		final long length = absArchive.length();
+		final long lastModified = absArchive.lastModified();
+		final String key = absArchive.getPath();
+		ArchiveIndex index = this.archives.get(key);
+		if (index == null || index.length != length || index.lastModified != lastModified) {
+			index = loadOrBuildIndex(absArchive, length, lastModified);
+			if (index != null) {
+				this.archives.put(key, index);
+			} else {
+				this.archives.remove(key);
+			}
+		}
+		return index;
+	}
+
+	/** Create the lookup of files into the given folders and archives.
+	 * The archives are indexed when the lookup is created.
+	 *
+	 * @param path the folders and archives.
+	 * @return the lookup.
+	 */
+	public Lookup createLookup(Iterable<File> path) {
+		final List<File> directories = new ArrayList<>();
+		final List<ArchiveIndex> indexes = new ArrayList<>();
+		boolean complete = true;
+		for (final File file : path) {
+			if (file.isDirectory()) {
+				directories.add(file);
+			} else if (file.isFile()) {
+				final ArchiveIndex index = getArchiveIndex(file);
+				if (index == null) {
+					complete = false;
+				} else {
+					indexes.add(index);
+				}
+			}
+		}
+		return new Lookup(directories, indexes, complete);
+	}
+
+	private ArchiveIndex loadOrBuildIndex(File archive, long length, long lastModified) {
+		final File indexFile = getIndexFile(archive);
+		if (indexFile != null && indexFile.isFile()) {
+			try {
+				final ByteBuffer buffer = map(indexFile);
+				if (buffer.getInt(0) == MAGIC_NUMBER && buffer.getInt(4) == FORMAT_VERSION
+						&& buffer.getLong(8) == length && buffer.getLong(16) == lastModified) {
+					return new ArchiveIndex(buffer, length, lastModified);
+				}
+			} catch (IOException | IndexOutOfBoundsException exception) {
+				// The index file is corrupted, it will be rebuilt
+			}
+		}
+		final List<byte[]> names;
+		try {
+			names = readEntryNames(archive);
+		} catch (IOException exception) {
+			return null;
+		}
+		if (indexFile != null) {
+			try {
+				writeIndexFile(indexFile, names, length, lastModified);
+				return new ArchiveIndex(map(indexFile), length, lastModified);
+			} catch (IOException exception) {
+				// The cache directory is not writable, the index is kept in memory
+			}
+		}
+		return new ArchiveIndex(toBuffer(names, length, lastModified), length, lastModified);
+	}
+
+	private File getIndexFile(File archive) {
+		if (this.cacheDirectory == null) {
+			return null;
+		}
+		final String name = archive.getName() + "-" //$NON-NLS-1$
+				+ IncrementalCompilationIndex.computeFingerprint(archive.getPath()) + INDEX_FILE_EXTENSION;
+		return new File(this.cacheDirectory, name);
+	}
+
+	private static ByteBuffer map(File file) throws IOException {
+		try (RandomAccessFile raf = new RandomAccessFile(file, "r"); //$NON-NLS-1$
+				FileChannel channel = raf.getChannel()) {
+			final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			// The mapping stays valid after the channel is closed
+			return buffer;
+		}
+	}
+
+	private static List<byte[]> readEntryNames(File archive) throws IOException {
+		final TreeSet<byte[]> names = new TreeSet<>(ClassPathIndex::compare);
+		try (ZipFile zipFile = new ZipFile(archive)) {
+			final Enumeration<? extends ZipEntry> entries = zipFile.entries();
+			while (entries.hasMoreElements()) {
+				final String name = entries.nextElement().getName();
+				addEntryName(names, name);
+				// The versioned entries of a multi-release archive are also accessible with their base names
+				if (name.startsWith(MULTI_RELEASE_PREFIX)) {
+					final int index = name.indexOf('/', MULTI_RELEASE_PREFIX.length());
+					if (index > 0 && index + 1 < name.length()) {
+						addEntryName(names, name.substring(index + 1));
+					}
+				}
+			}
+		}
+		return new ArrayList<>(names);
+	}
+
+	/** Add the name of the entry, and the names of the folders that contain the entry.
+	 * The folders are added with and without the trailing separator because both forms could be
+	 * used for retrieving a resource.
+	 */
+	private static void addEntryName(TreeSet<byte[]> names, String name) {
+		int index = name.indexOf('/');
+		while (index > 0) {
+			names.add(name.substring(0, index).getBytes(StandardCharsets.UTF_8));
+			names.add(name.substring(0, index + 1).getBytes(StandardCharsets.UTF_8));
+			index = name.indexOf('/', index + 1);
+		}
+		names.add(name.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static void writeIndexFile(File indexFile, List<byte[]> names, long length, long lastModified)
+			throws IOException {
+		final File directory = indexFile.getParentFile();
+		directory.mkdirs();
+		final File tmpFile = File.createTempFile(indexFile.getName(), null, directory);
+		try {
+			try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmpFile)))) {
+				output.writeInt(MAGIC_NUMBER);
+				output.writeInt(FORMAT_VERSION);
+				output.writeLong(length);
+				output.writeLong(lastModified);
+				output.writeInt(names.size());
+				int offset = 0;
+				for (final byte[] name : names) {
+					output.writeInt(offset);
+					offset += name.length;
+				}
+				output.writeInt(offset);
+				for (final byte[] name : names) {
+					output.write(name);
+				}
+			}
+			Files.move(tmpFile.toPath(), indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+					StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			tmpFile.delete();
+		}
+	}
+
+	private static ByteBuffer toBuffer(List<byte[]> names, long length, long lastModified) {
+		int size = HEADER_SIZE + (names.size() + 1) * 4;
+		for (final byte[] name : names) {
+			size += name.length;
+		}
+		final ByteBuffer buffer = ByteBuffer.allocate(size);
+		buffer.putInt(MAGIC_NUMBER);
+		buffer.putInt(FORMAT_VERSION);
+		buffer.putLong(length);
+		buffer.putLong(lastModified);
+		buffer.putInt(names.size());
+		int offset = 0;
+		for (final byte[] name : names) {
+			buffer.putInt(offset);
+			offset += name.length;
+		}
+		buffer.putInt(offset);
+		for (final byte[] name : names) {
+			buffer.put(name);
+		}
+		return buffer;
+	}
+
+	private static int compare(byte[] first, byte[] second) {
+		final int length = Math.min(first.length, second.length);
+		for (int i = 0; i < length; ++i) {
+			final int cmp = (first[i] & BYTE_MASK) - (second[i] & BYTE_MASK);
+			if (cmp != 0) {
+				return cmp;
+			}
+		}
+		return first.length - second.length;
+	}
+
+	/** Lookup of files into a set of folders and archives.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 0.13
+	 */
+	public static final class Lookup {
+
+		private final List<File> directories;
+
+		private final List<ArchiveIndex> archives;
+
+		private final boolean complete;
+
+		Lookup(List<File> directories, List<ArchiveIndex> archives, boolean complete) {
+			this.directories = directories;
+			this.archives = archives;
+			this.complete = complete;
+		}
+
+		/** Replies if the given file is inside one of the folders or archives.
+		 *
+		 * @param name the name of the file inside the folders and the archives, with {@code /} as separator.
+		 * @return {@code true} if the file exists or if one of the archives cannot be indexed;
+		 *     {@code false} if the file does not exist.
+		 */
+		@Pure
+		public boolean contains(String name) {
+			if (!this.complete) {
+				return true;
+			}
+			for (final ArchiveIndex index : this.archives) {
+				if (index.contains(name)) {
+					return true;
+				}
+			}
+			for (final File directory : this.directories) {
+				if (new File(directory, name).exists()) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+	}
+
+	/** Index of the entries of an archive.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 0.13
+	 */
+	public static final class ArchiveIndex {
+
+		final long length;
+
+		final long lastModified;
+
+		private final ByteBuffer buffer;
+
+		private final int count;
+
+		private final int namesPosition;
+
+		ArchiveIndex(ByteBuffer buffer, long length, long lastModified) {
+			this.buffer = buffer;
+			this.length = length;
+			this.lastModified = lastModified;
+			this.count = buffer.getInt(HEADER_SIZE - 4);
+			this.namesPosition = HEADER_SIZE + (this.count + 1) * 4;
+			if (this.count < 0 || buffer.capacity() < this.namesPosition + buffer.getInt(this.namesPosition - 4)) {
+				throw new IndexOutOfBoundsException();
+			}
+		}
+
+		/** Replies the number of entries in the archive.
+		 *
+		 * @return the number of entries.
+		 */
+		@Pure
+		public int size() {
+			return this.count;
+		}
+
+		/** Replies if the archive contains a file with the given name.
+		 *
+		 * @param name the name of the file inside the archive, with {@code /} as separator.
+		 * @return {@code true} if the file is inside the archive.
+		 */
+		@Pure
+		public boolean contains(String name) {
+			final byte[] key = name.getBytes(StandardCharsets.UTF_8);
+			int low = 0;
+			int high = this.count - 1;
+			while (low <= high) {
+				final int middle = (low + high) >>> 1;
+				final int cmp = compareEntry(middle, key);
+				if (cmp < 0) {
+					low = middle + 1;
+				} else if (cmp > 0) {
+					high = middle - 1;
+				} else {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		private int compareEntry(int entryIndex, byte[] key) {
+			final int start = this.buffer.getInt(HEADER_SIZE + entryIndex * 4);
+			final int end = this.buffer.getInt(HEADER_SIZE + (entryIndex + 1) * 4);
+			final int entryLength = end - start;
+			final int length = Math.min(entryLength, key.length);
+			final int base = this.namesPosition + start;
+			for (int i = 0; i < length; ++i) {
+				final int cmp = (this.buffer.get(base + i) & BYTE_MASK) - (key[i] & BYTE_MASK);
+				if (cmp != 0) {
+					return cmp;
+				}
+			}
+			return entryLength - key.length;
+		}
+
+	}
+
+}
@@ -0,0 +1,385 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2021 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.lang.compiler.batch;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import com.google.common.base.Joiner;
+import com.google.common.base.Splitter;
+import org.eclipse.xtext.xbase.lib.Pure;
+
+/** Index that is persisted by the batch compiler between two runs in order to support the incremental compilation.
+ *
+ * <p>For each SARL file, the index stores a fingerprint of the file's content, the names that are
+ * exported and imported by the file, and the names of the Java types that are generated from the file.
+ * The imported and exported names are used for building the cross-file dependency graph.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.13
+ */
+public class IncrementalCompilationIndex {
+
+	/** Default name of the file in which the index is stored.
+	 */
+	public static final String INDEX_FILENAME = ".sarlc.index"; //$NON-NLS-1$
+
+	private static final String CONFIGURATION_KEY = "configuration"; //$NON-NLS-1$
+
+	private static final String FILE_KEY = "file."; //$NON-NLS-1$
+
+	private static final String FINGERPRINT_KEY = "fingerprint."; //$NON-NLS-1$
+
+	private static final String EXPORTS_KEY = "exports."; //$NON-NLS-1$
+
+	private static final String IMPORTS_KEY = "imports."; //$NON-NLS-1$
+
+	private static final String TYPES_KEY = "types."; //$NON-NLS-1$
+
+	private static final String SEPARATOR = ","; //$NON-NLS-1$
+
+	private static final int BUFFER_SIZE = 8192;
+
+	private static final int HEX_MASK = 0xFF;
+
+	private static final int HEX_LIMIT = 0x10;
+
+	private final String configuration;
+
+	private final Map<File, Entry> entries = new TreeMap<>();
+
+	/** Constructor.
+	 *
+	 * @param configuration the fingerprint of the compiler's configuration for which the index is built.
+	 */
+	public IncrementalCompilationIndex(String configuration) {
+		this.configuration = configuration;
+	}
+
+	/** Replies the fingerprint of the compiler's configuration for which the index is built.
+	 *
+	 * @return the fingerprint.
+	 */
+	@Pure
+	public String getConfiguration() {
+		return this.configuration;
+	}
+
+	/** Replies the SARL files that are indexed.
+	 *
+	 * @return the files.
+	 */
+	@Pure
+	public Set<File> getSourceFiles() {
+		return Collections.unmodifiableSet(this.entries.keySet());
+	}
+
+	/** Replies the index entry for the given file.
+	 *
+	 * @param file the SARL file.
+	 * @return the entry, or {@code null} if the file is not indexed.
+	 */
+	@Pure
+	public Entry getEntry(File file) {
+		return this.entries.get(file);
+	}
+
+	/** Change the index entry for the given file.
+	 *
+	 * @param file the SARL file.
+	 * @param entry the entry; or {@code null} for removing the file from the index.
+	 */
+	public void setEntry(File file, Entry entry) {
+		if (entry == null) {
+			this.entries.remove(file);
+		} else {
+			this.entries.put(file, entry);
+		}
+	}
+
+	/** Replies the files that must be compiled again.
+	 *
+	 * <p>A file must be compiled again if it is new, if its content has changed, or if it is a direct or
+	 * indirect dependent of a changed or removed file.
+	 *
+	 * @param fingerprints the fingerprints of the SARL files that are currently in the source folders.
+	 * @return the files to compile.
+	 */
+	@Pure
+	public Set<File> getAffectedFiles(Map<File, String> fingerprints) {
+		final Set<File> affected = new TreeSet<>();
+		final Set<String> changedNames = new TreeSet<>();
+		for (final Map.Entry<File, String> fingerprint : fingerprints.entrySet()) {
+			final Entry entry = this.entries.get(fingerprint.getKey());
+			if (entry == null || !entry.getFingerprint().equals(fingerprint.getValue())) {
+				affected.add(fingerprint.getKey());
+				if (entry != null) {
+					changedNames.addAll(entry.getExportedNames());
+				}
+			}
+		}
+		for (final Map.Entry<File, Entry> entry : this.entries.entrySet()) {
+			if (!fingerprints.containsKey(entry.getKey())) {
+				changedNames.addAll(entry.getValue().getExportedNames());
+			}
+		}
+		affected.addAll(getDependentFiles(changedNames, affected, fingerprints.keySet()));
+		return affected;
+	}
+
+	/** Replies the indexed files that depend, directly or indirectly, on the given names.
+	 *
+	 * @param names the names, in lower case.
+	 * @param excluded the files that must not be replied.
+	 * @param existingFiles the files that are still in the source folders.
+	 * @return the dependent files.
+	 */
+	@Pure
+	public Set<File> getDependentFiles(Collection<String> names, Set<File> excluded, Set<File> existingFiles) {
+		final Set<File> dependents = new TreeSet<>();
+		final Set<String> changedNames = new TreeSet<>(names);
+		boolean changed = !changedNames.isEmpty();
+		while (changed) {
+			changed = false;
+			for (final Map.Entry<File, Entry> entry : this.entries.entrySet()) {
+				final File file = entry.getKey();
+				if (existingFiles.contains(file) && !excluded.contains(file) && !dependents.contains(file)
+						&& !Collections.disjoint(entry.getValue().getImportedNames(), changedNames)) {
+					dependents.add(file);
+					changed |= changedNames.addAll(entry.getValue().getExportedNames());
+				}
+			}
+		}
+		return dependents;
+	}
+
+	/** Load the index from the given file.
+	 *
+	 * @param file the file to read.
+	 * @param configuration the fingerprint of the current compiler's configuration.
+	 * @return the index, or {@code null} if the file does not exist or if it was built
+	 *     for another configuration.
+	 * @throws IOException if the file cannot be read.
+	 */
+	public static IncrementalCompilationIndex load(File file, String configuration) throws IOException {
+		if (!file.isFile()) {
+			return null;
+		}
+		final Properties properties = new Properties();
+		try (InputStream stream = new FileInputStream(file)) {
+			properties.load(stream);
+		}
+		if (configuration == null || !configuration.equals(properties.getProperty(CONFIGURATION_KEY))) {
+			return null;
+		}
+		final IncrementalCompilationIndex index = new IncrementalCompilationIndex(configuration);
+		int i = 0;
+		String filename = properties.getProperty(FILE_KEY + i);
+		while (filename != null) {
+			final String fingerprint = properties.getProperty(FINGERPRINT_KEY + i);
+			if (fingerprint != null) {
+				index.setEntry(new File(filename), new Entry(fingerprint,
+						split(properties.getProperty(EXPORTS_KEY + i)),
+						split(properties.getProperty(IMPORTS_KEY + i)),
+						split(properties.getProperty(TYPES_KEY + i))));
+			}
+			++i;
+			filename = properties.getProperty(FILE_KEY + i);
+		}
+		return index;
+	}
+
+	/** Save the index into the given file.
+	 *
+	 * @param file the file to write.
+	 * @throws IOException if the file cannot be written.
+	 */
+	public void save(File file) throws IOException {
+		final Properties properties = new Properties();
+		properties.setProperty(CONFIGURATION_KEY, getConfiguration());
+		int i = 0;
+		for (final Map.Entry<File, Entry> entry : this.entries.entrySet()) {
+			final Entry value = entry.getValue();
+			properties.setProperty(FILE_KEY + i, entry.getKey().getPath());
+			properties.setProperty(FINGERPRINT_KEY + i, value.getFingerprint());
+			properties.setProperty(EXPORTS_KEY + i, Joiner.on(SEPARATOR).join(value.getExportedNames()));
+			properties.setProperty(IMPORTS_KEY + i, Joiner.on(SEPARATOR).join(value.getImportedNames()));
+			properties.setProperty(TYPES_KEY + i, Joiner.on(SEPARATOR).join(value.getGeneratedTypes()));
+			++i;
+		}
+		final File folder = file.getParentFile();
+		if (folder != null) {
+			folder.mkdirs();
+		}
+		try (OutputStream stream = new FileOutputStream(file)) {
+			properties.store(stream, null);
+		}
+	}
+
+	private static Set<String> split(String value) {
+		final Set<String> names = new TreeSet<>();
+		if (value != null) {
+			for (final String name : Splitter.on(SEPARATOR).omitEmptyStrings().split(value)) {
+				names.add(name);
+			}
+		}
+		return names;
+	}
+
+	/** Compute the fingerprint of the given file's content.
+	 *
+	 * @param file the file.
+	 * @return the fingerprint.
+	 * @throws IOException if the file cannot be read.
+	 */
+	public static String computeFingerprint(File file) throws IOException {
+		final MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+		} catch (NoSuchAlgorithmException exception) {
+			throw new IOException(exception);
+		}
+		final byte[] buffer = new byte[BUFFER_SIZE];
+		try (InputStream stream = new FileInputStream(file)) {
+			int len = stream.read(buffer);
+			while (len > 0) {
+				digest.update(buffer, 0, len);
+				len = stream.read(buffer);
+			}
+		}
+		return toHex(digest.digest());
+	}
+
+	/** Compute the fingerprint of the given string.
+	 *
+	 * @param value the string.
+	 * @return the fingerprint.
+	 */
+	public static String computeFingerprint(String value) {
+		try {
+			final MessageDigest digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+			return toHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException exception) {
+			return Integer.toHexString(value.hashCode());
+		}
+	}
+
+	private static String toHex(byte[] bytes) {
+		final StringBuilder hex = new StringBuilder();
+		for (final byte b : bytes) {
+			final int value = b & HEX_MASK;
+			if (value < HEX_LIMIT) {
+				hex.append('0');
+			}
+			hex.append(Integer.toHexString(value));
+		}
+		return hex.toString();
+	}
+
+	/** Entry of the incremental compilation index.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 0.13
+	 */
+	public static final class Entry {
+
+		private final String fingerprint;
+
+		private final Set<String> exportedNames;
+
+		private final Set<String> importedNames;
+
+		private final Set<String> generatedTypes;
+
+		/** Constructor.
+		 *
+		 * @param fingerprint the fingerprint of the file's content.
+		 * @param exportedNames the names that are exported by the file, in lower case.
+		 * @param importedNames the names that are imported by the file, in lower case.
+		 * @param generatedTypes the fully qualified names of the top-level Java types that are generated from the file.
+		 */
+		public Entry(String fingerprint, Set<String> exportedNames, Set<String> importedNames, Set<String> generatedTypes) {
+			this.fingerprint = fingerprint;
+			this.exportedNames = Collections.unmodifiableSet(exportedNames);
+			this.importedNames = Collections.unmodifiableSet(importedNames);
+			this.generatedTypes = Collections.unmodifiableSet(generatedTypes);
+		}
+
+		/** Replies the fingerprint of the file's content.
+		 *
+		 * @return the fingerprint.
+		 */
+		@Pure
+		public String getFingerprint() {
+			return this.fingerprint;
+		}
+
+		/** Replies the names that are exported by the file, in lower case.
+		 *
+		 * @return the names.
+		 */
+		@Pure
+		public Set<String> getExportedNames() {
+			return this.exportedNames;
+		}
+
+		/** Replies the names that are imported by the file, in lower case.
+		 *
+		 * @return the names.
+		 */
+		@Pure
+		public Set<String> getImportedNames() {
+			return this.importedNames;
+		}
+
+		/** Replies the fully qualified names of the top-level Java types that are generated from the file.
+		 *
+		 * @return the names.
+		 */
+		@Pure
+		public Set<String> getGeneratedTypes() {
+			return this.generatedTypes;
+		}
+
+	}
+
+}
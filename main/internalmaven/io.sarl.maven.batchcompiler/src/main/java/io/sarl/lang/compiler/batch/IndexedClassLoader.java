@@ -0,0 +1,73 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2021 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.lang.compiler.batch;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+
+/** Class loader that uses the {@link ClassPathIndex index of the class path} for rejecting the
+ * unknown types and resources without searching into the archives.
+ *
+ * <p>The type provider of the compiler asks for many types that do not exist, e.g. when it resolves
+ * the simple names against the imported packages. Without the index, each of these requests opens
+ * and searches all the archives of the class path.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.13
+ */
+class IndexedClassLoader extends URLClassLoader {
+
+	private static final String CLASS_FILE_EXTENSION = ".class"; //$NON-NLS-1$
+
+	private final ClassPathIndex.Lookup lookup;
+
+	/** Constructor.
+	 *
+	 * @param urls the URLs of the folders and the archives.
+	 * @param parent the parent class loader.
+	 * @param lookup the lookup into the same folders and archives as the URLs.
+	 */
+	IndexedClassLoader(URL[] urls, ClassLoader parent, ClassPathIndex.Lookup lookup) {
+		super(urls, parent);
+		this.lookup = lookup;
+	}
+
+	@Override
+	protected Class<?> findClass(String name) throws ClassNotFoundException {
+		if (!this.lookup.contains(name.replace('.', '/') + CLASS_FILE_EXTENSION)) {
+			throw new ClassNotFoundException(name);
+		}
+		return super.findClass(name);
+	}
+
+	@Override
+	public URL findResource(String name) {
+		if (!this.lookup.contains(name)) {
+			return null;
+		}
+		return super.findResource(name);
+	}
+
+}
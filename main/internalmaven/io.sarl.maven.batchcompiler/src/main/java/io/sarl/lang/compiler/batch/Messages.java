@@ -94,6 +94,18 @@ public class Messages extends NLS {
 	public static String SarlBatchCompiler_63;
 	public static String SarlBatchCompiler_64;
 	public static String SarlBatchCompiler_65;
+	public static String SarlBatchCompiler_66;
+	public static String SarlBatchCompiler_67;
+	public static String SarlBatchCompiler_68;
+	public static String SarlBatchCompiler_69;
+	public static String SarlBatchCompiler_70;
+	public static String SarlBatchCompiler_71;
+	public static String SarlBatchCompiler_72;
+	public static String SarlBatchCompiler_73;
+	public static String SarlBatchCompiler_74;
+	public static String SarlBatchCompiler_75;
+	public static String SarlBatchCompiler_76;
+	public static String SarlBatchCompiler_77;
 	public static String SarlBatchCompiler_7;
 	public static String SarlBatchCompiler_8;
 	public static String SarlBatchCompiler_9;
@@ -33,6 +33,7 @@ import java.lang.reflect.Modifier;
 import java.net.URI;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.nio.charset.Charset;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -40,6 +41,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -47,7 +49,16 @@ import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.regex.Pattern;
@@ -62,12 +73,15 @@ import com.google.inject.Inject;
 import com.google.inject.name.Named;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.xtend.core.macro.ProcessorInstanceForJvmTypeProvider;
 import org.eclipse.xtext.Constants;
 import org.eclipse.xtext.EcoreUtil2;
+import org.eclipse.xtext.common.types.JvmDeclaredType;
+import org.eclipse.xtext.common.types.TypesPackage;
 import org.eclipse.xtext.common.types.access.impl.ClasspathTypeProvider;
 import org.eclipse.xtext.common.types.access.impl.IndexedJvmTypeAccess;
 import org.eclipse.xtext.common.types.descriptions.IStubGenerator;
@@ -81,11 +95,14 @@ import org.eclipse.xtext.generator.OutputConfiguration;
 import org.eclipse.xtext.generator.OutputConfigurationAdapter;
 import org.eclipse.xtext.mwe.NameBasedFilter;
 import org.eclipse.xtext.mwe.PathTraverser;
+import org.eclipse.xtext.naming.QualifiedName;
 import org.eclipse.xtext.parser.IEncodingProvider;
 import org.eclipse.xtext.resource.CompilerPhases;
 import org.eclipse.xtext.resource.FileExtensionProvider;
+import org.eclipse.xtext.resource.IEObjectDescription;
 import org.eclipse.xtext.resource.IResourceDescription;
 import org.eclipse.xtext.resource.IResourceServiceProvider;
+import org.eclipse.xtext.resource.SynchronizedXtextResourceSet;
 import org.eclipse.xtext.resource.XtextResourceSet;
 import org.eclipse.xtext.resource.persistence.StorageAwareResource;
 import org.eclipse.xtext.util.CancelIndicator;
@@ -108,6 +125,7 @@ import org.eclipse.xtext.xbase.resource.BatchLinkableResource;
 import org.eclipse.xtext.xbase.resource.BatchLinkableResourceStorageWritable;
 
 import io.sarl.lang.SARLConfig;
+import io.sarl.lang.SARLVersion;
 import io.sarl.lang.compiler.GeneratorConfig2;
 import io.sarl.lang.compiler.GeneratorConfigProvider2;
 import io.sarl.lang.compiler.IGeneratorConfigProvider2;
@@ -139,6 +157,12 @@ public class SarlBatchCompiler {
 
 	private static final Predicate<IExtraLanguageContribution> DISABLER = it -> false;
 
+	private static final long NANOS_PER_MILLI = 1000000L;
+
+	private static final String JAVA_FILE_EXTENSION = ".java"; //$NON-NLS-1$
+
+	private static final Pattern NON_IDENTIFIER_PATTERN = Pattern.compile("[^\\p{javaJavaIdentifierPart}]+"); //$NON-NLS-1$
+
 	/** The provider of resource sets.
 	 */
 	protected Provider<ResourceSet> resourceSetProvider;
@@ -185,6 +209,14 @@ public class SarlBatchCompiler {
 
 	private ClassLoader annotationProcessingClassLoader;
 
+	private boolean classLoaderSharing;
+
+	private final List<ClassLoader> sharedClassLoaders = new ArrayList<>();
+
+	private File classPathIndexDirectory;
+
+	private ClassPathIndex classPathIndex;
+
 	@Inject
 	private IGeneratorConfigProvider generatorConfigProvider;
 
@@ -252,6 +284,18 @@ public class SarlBatchCompiler {
 
 	private OptimizationLevel optimizationLevel;
 
+	private boolean parallelCompilation;
+
+	private int parallelThreadCount;
+
+	private ExecutorService workerPool;
+
+	private boolean incrementalCompilation;
+
+	private IncrementalCompilationIndex previousIncrementalIndex;
+
+	private Map<File, String> sourceFingerprints;
+
 	/** Constructor the batch compiler.
 	 */
 	public SarlBatchCompiler() {
@@ -396,6 +440,92 @@ public class SarlBatchCompiler {
 		this.enableSarlCompilation = enable;
 	}
 
+	/** Replies if the linking, validation and generation stages are run on a pool of worker threads.
+	 *
+	 * <p>The stages are run in parallel only if the resource set is a {@link SynchronizedXtextResourceSet}.
+	 *
+	 * @return {@code true} if the stages are run in parallel.
+	 * @since 0.13
+	 * @see #getParallelThreadCount()
+	 */
+	public boolean isParallelCompilation() {
+		return this.parallelCompilation;
+	}
+
+	/** Set if the linking, validation and generation stages are run on a pool of worker threads.
+	 *
+	 * <p>The stages are run in parallel only if the resource set is a {@link SynchronizedXtextResourceSet}.
+	 *
+	 * @param parallel {@code true} if the stages are run in parallel.
+	 * @since 0.13
+	 * @see #setParallelThreadCount(int)
+	 */
+	public void setParallelCompilation(boolean parallel) {
+		this.parallelCompilation = parallel;
+	}
+
+	/** Replies the number of worker threads that are used when the compilation is run in parallel.
+	 *
+	 * @return the number of threads; always strictly positive.
+	 * @since 0.13
+	 * @see #isParallelCompilation()
+	 */
+	public int getParallelThreadCount() {
+		if (this.parallelThreadCount <= 0) {
+			return Runtime.getRuntime().availableProcessors();
+		}
+		return this.parallelThreadCount;
+	}
+
+	/** Change the number of worker threads that are used when the compilation is run in parallel.
+	 *
+	 * @param count the number of threads. If it is negative or zero, the number of available processors is used.
+	 * @since 0.13
+	 * @see #setParallelCompilation(boolean)
+	 */
+	public void setParallelThreadCount(int count) {
+		this.parallelThreadCount = count;
+	}
+
+	/** Replies if the compilation is incremental.
+	 *
+	 * <p>When the compilation is incremental, the compiler stores into the output folder an index of the
+	 * compiled SARL files, with their fingerprints and their dependencies. On the next run, only the new and
+	 * changed files, and the files that depend on them, are compiled. The types of the other files are
+	 * resolved from the class files that were generated by the previous run.
+	 *
+	 * @return {@code true} if the compilation is incremental.
+	 * @since 0.13
+	 * @see #getIncrementalCompilationIndexFile()
+	 */
+	public boolean isIncrementalCompilation() {
+		return this.incrementalCompilation;
+	}
+
+	/** Set if the compilation is incremental.
+	 *
+	 * @param incremental {@code true} if the compilation is incremental.
+	 * @since 0.13
+	 * @see #getIncrementalCompilationIndexFile()
+	 */
+	public void setIncrementalCompilation(boolean incremental) {
+		this.incrementalCompilation = incremental;
+	}
+
+	/** Replies the file in which the index for the incremental compilation is stored.
+	 *
+	 * @return the file, or {@code null} if there is no output path.
+	 * @since 0.13
+	 * @see #isIncrementalCompilation()
+	 */
+	public File getIncrementalCompilationIndexFile() {
+		final File output = getOutputPath();
+		if (output == null) {
+			return null;
+		}
+		return new File(output, IncrementalCompilationIndex.INDEX_FILENAME);
+	}
+
 	/** Replies the formatter of the issue messages.
 	 *
 	 * @return the formatter.
@@ -617,6 +747,82 @@ public class SarlBatchCompiler {
 		return this.useCurrentClassLoaderAsParent;
 	}
 
+	/** Set if the class loaders of the archives on the class path are shared with the other compilations
+	 * that are run into the same virtual machine.
+	 *
+	 * <p>When this flag is enabled, the archives of the class path and of the module path are loaded by a class
+	 * loader that is stored into the {@link #getSharedClassLoaderCache() shared cache}, and reused as long as
+	 * the archives are not changed. The folders of the class path are still loaded by a class loader that is
+	 * specific to the compilation. Because the shared class loader is the parent of the latter, a type that is
+	 * defined into an archive hides a type with the same name that is defined into a folder.
+	 *
+	 * @param enable {@code true} for sharing the class loaders.
+	 * @since 0.13
+	 */
+	public void setClassLoaderSharing(boolean enable) {
+		this.classLoaderSharing = enable;
+	}
+
+	/** Replies if the class loaders of the archives on the class path are shared with the other compilations
+	 * that are run into the same virtual machine.
+	 *
+	 * @return {@code true} if the class loaders are shared.
+	 * @since 0.13
+	 */
+	@Pure
+	public boolean isClassLoaderSharing() {
+		return this.classLoaderSharing;
+	}
+
+	/** Replies the cache in which the shared class loaders are stored.
+	 *
+	 * @return the cache.
+	 * @since 0.13
+	 * @see #setClassLoaderSharing(boolean)
+	 */
+	@SuppressWarnings("static-method")
+	protected SharedClassLoaderCache getSharedClassLoaderCache() {
+		return SharedClassLoaderCache.getSharedInstance();
+	}
+
+	/** Change the directory in which the indexes of the class path archives are stored.
+	 *
+	 * <p>When this directory is set, the class loaders that are created by the compiler use a
+	 * {@link ClassPathIndex} for rejecting the unknown types and resources without searching into the archives.
+	 * The indexes are memory-mapped from the directory, and they are shared by the compilation stages and by
+	 * the compilations that use the same directory.
+	 *
+	 * @param directory the directory, or {@code null} for disabling the index of the class path.
+	 * @since 0.13
+	 */
+	public void setClassPathIndexDirectory(File directory) {
+		this.classPathIndexDirectory = directory;
+		this.classPathIndex = null;
+	}
+
+	/** Replies the directory in which the indexes of the class path archives are stored.
+	 *
+	 * @return the directory, or {@code null} if the index of the class path is disabled.
+	 * @since 0.13
+	 */
+	@Pure
+	public File getClassPathIndexDirectory() {
+		return this.classPathIndexDirectory;
+	}
+
+	/** Replies the index of the class path archives.
+	 *
+	 * @return the index, or {@code null} if the index of the class path is disabled.
+	 * @since 0.13
+	 * @see #setClassPathIndexDirectory(File)
+	 */
+	protected synchronized ClassPathIndex getClassPathIndex() {
+		if (this.classPathIndex == null && this.classPathIndexDirectory != null) {
+			this.classPathIndex = new ClassPathIndex(this.classPathIndexDirectory);
+		}
+		return this.classPathIndex;
+	}
+
 	/** Change the base path.
 	 *
 	 * @param basePath the base path.
@@ -769,6 +975,24 @@ public class SarlBatchCompiler {
 		return Collections.unmodifiableList(this.classpath);
 	}
 
+	/** Replies the classpath that is used for resolving the types during the SARL compilation.
+	 *
+	 * <p>During an incremental compilation, the class output path is added to the classpath in order to
+	 * resolve the types of the SARL files that are not compiled again.
+	 *
+	 * @return the classpath.
+	 * @since 0.13
+	 */
+	protected List<File> getCompilationClassPath() {
+		final File classOutput = getClassOutputPath();
+		if (this.previousIncrementalIndex != null && classOutput != null) {
+			final List<File> cp = new ArrayList<>(getClassPath());
+			cp.add(classOutput);
+			return cp;
+		}
+		return getClassPath();
+	}
+
 	/** Change the module-path.
 	 * This function does nothing if the current version of Java is not supporting modules.
 	 *
@@ -1367,6 +1591,7 @@ public class SarlBatchCompiler {
 			if (monitor.isCanceled()) {
 				return false;
 			}
+			IncrementalCompilationIndex incrementalIndex = null;
 			if (isSarlCompilationEnable()) {
 				monitor.worked(4);
 				try {
@@ -1382,32 +1607,60 @@ public class SarlBatchCompiler {
 						return false;
 					}
 					monitor.worked(6);
+					long phaseStart = System.nanoTime();
 					loadSARLFiles(resourceSet, monitor);
 					if (monitor.isCanceled()) {
 						return false;
 					}
+					reportPhaseDuration(Messages.SarlBatchCompiler_54, phaseStart);
 					monitor.worked(7);
-					final File stubSourceDirectory = createStubs(resourceSet, monitor);
+					// The stubs are needed only if the Java source files are referencing the SARL types.
+					phaseStart = System.nanoTime();
+					final List<File> javaSourceFiles = findJavaSourceFiles(monitor);
+					final boolean stubsNeeded = !javaSourceFiles.isEmpty()
+							&& isSarlTypeReferencedFromJava(resourceSet, javaSourceFiles, monitor);
 					if (monitor.isCanceled()) {
 						return false;
 					}
-					monitor.worked(8);
-					CompilerStatus compilerStatus = preCompileStubs(stubSourceDirectory, stubClassDirectory, monitor);
-					if (!compilerStatus.isSuccess() && compilerStatus != CompilerStatus.NOTHING_TO_COMPILE) {
-						if (compilerStatus != CompilerStatus.CANCELED) {
-							reportInternalError(MessageFormat.format(Messages.SarlBatchCompiler_2, compilerStatus.getFailureExplanation()));
+					reportPhaseDuration(Messages.SarlBatchCompiler_71, phaseStart);
+					File stubSourceDirectory = null;
+					if (stubsNeeded) {
+						phaseStart = System.nanoTime();
+						stubSourceDirectory = createStubs(resourceSet, monitor);
+						if (monitor.isCanceled()) {
+							return false;
 						}
-						return false;
-					}
-					monitor.worked(9);
-					compilerStatus = preCompileJava(stubSourceDirectory, stubClassDirectory, monitor);
-					if (!compilerStatus.isSuccess() && compilerStatus != CompilerStatus.NOTHING_TO_COMPILE) {
-						if (compilerStatus == CompilerStatus.CANCELED) {
+						reportPhaseDuration(Messages.SarlBatchCompiler_53, phaseStart);
+						monitor.worked(8);
+						phaseStart = System.nanoTime();
+						final CompilerStatus compilerStatus = preCompileStubs(stubSourceDirectory, stubClassDirectory, monitor);
+						if (!compilerStatus.isSuccess() && compilerStatus != CompilerStatus.NOTHING_TO_COMPILE) {
+							if (compilerStatus != CompilerStatus.CANCELED) {
+								reportInternalError(MessageFormat.format(Messages.SarlBatchCompiler_2, compilerStatus.getFailureExplanation()));
+							}
 							return false;
 						}
-						if (getLogger().isLoggable(Level.FINEST)) {
-							getLogger().finest(MessageFormat.format(Messages.SarlBatchCompiler_3, compilerStatus.getFailureExplanation()));
+						reportPhaseDuration(Messages.SarlBatchCompiler_50, phaseStart);
+					} else {
+						final String reason = javaSourceFiles.isEmpty() ? Messages.SarlBatchCompiler_74 : Messages.SarlBatchCompiler_75;
+						reportSkippedPhase(Messages.SarlBatchCompiler_53, reason);
+						reportSkippedPhase(Messages.SarlBatchCompiler_50, reason);
+					}
+					monitor.worked(9);
+					if (!javaSourceFiles.isEmpty()) {
+						phaseStart = System.nanoTime();
+						final CompilerStatus compilerStatus = preCompileJava(stubSourceDirectory, stubClassDirectory, monitor);
+						if (!compilerStatus.isSuccess() && compilerStatus != CompilerStatus.NOTHING_TO_COMPILE) {
+							if (compilerStatus == CompilerStatus.CANCELED) {
+								return false;
+							}
+							if (getLogger().isLoggable(Level.FINEST)) {
+								getLogger().finest(MessageFormat.format(Messages.SarlBatchCompiler_3, compilerStatus.getFailureExplanation()));
+							}
 						}
+						reportPhaseDuration(Messages.SarlBatchCompiler_51, phaseStart);
+					} else {
+						reportSkippedPhase(Messages.SarlBatchCompiler_51, Messages.SarlBatchCompiler_74);
 					}
 					monitor.worked(10);
 				} finally {
@@ -1424,16 +1677,20 @@ public class SarlBatchCompiler {
 					return false;
 				}
 				monitor.worked(12);
+				long phaseStart = System.nanoTime();
 				generateJvmElements(resourceSet, monitor);
 				if (monitor.isCanceled()) {
 					return false;
 				}
+				reportPhaseDuration(Messages.SarlBatchCompiler_21, phaseStart);
 				monitor.worked(13);
+				phaseStart = System.nanoTime();
 				final List<Resource> validatedResources = new ArrayList<>();
 				final List<Issue> issues = validate(resourceSet, validatedResources, monitor);
 				if (monitor.isCanceled()) {
 					return false;
 				}
+				reportPhaseDuration(Messages.SarlBatchCompiler_38, phaseStart);
 				if (!issues.isEmpty()) {
 					if (reportCompilationIssues(issues)) {
 						return false;
@@ -1441,13 +1698,19 @@ public class SarlBatchCompiler {
 				}
 				monitor.worked(14);
 				overrideXtextInternalLoggers();
+				phaseStart = System.nanoTime();
 				generateJavaFiles(validatedResources, monitor);
 				if (monitor.isCanceled()) {
 					return false;
 				}
+				reportPhaseDuration(Messages.SarlBatchCompiler_49, phaseStart);
+				if (isIncrementalCompilation()) {
+					incrementalIndex = buildIncrementalCompilationIndex(resourceSet, monitor);
+				}
 			}
 			monitor.worked(15);
 			if (isJavaPostCompilationEnable()) {
+				final long phaseStart = System.nanoTime();
 				final CompilerStatus compilerStatus = postCompileJava(monitor);
 				if (!compilerStatus.isSuccess() && compilerStatus != CompilerStatus.NOTHING_TO_COMPILE) {
 					if (compilerStatus != CompilerStatus.CANCELED) {
@@ -1455,9 +1718,13 @@ public class SarlBatchCompiler {
 					}
 					return false;
 				}
+				reportPhaseDuration(Messages.SarlBatchCompiler_72, phaseStart);
 			} else {
 				reportInternalWarning(Messages.SarlBatchCompiler_65);
 			}
+			if (incrementalIndex != null) {
+				saveIncrementalCompilationIndex(incrementalIndex);
+			}
 			monitor.worked(16);
 		} finally {
 			finalizationStage(monitor);
@@ -1468,8 +1735,16 @@ public class SarlBatchCompiler {
 
 	private void finalizationStage(IProgressMonitor monitor) {
 		monitor.subTask(Messages.SarlBatchCompiler_47);
+		if (this.workerPool != null) {
+			this.workerPool.shutdownNow();
+			this.workerPool = null;
+		}
 		destroyClassLoader(this.jvmTypesClassLoader);
 		destroyClassLoader(this.annotationProcessingClassLoader);
+		for (final ClassLoader sharedLoader : this.sharedClassLoaders) {
+			getSharedClassLoaderCache().release(sharedLoader);
+		}
+		this.sharedClassLoaders.clear();
 		switch (getCleaningPolicy()) {
 		case FULL_CLEANING:
 			if (this.tempPath != null) {
@@ -1491,6 +1766,8 @@ public class SarlBatchCompiler {
 		}
 		this.tempPath = null;
 		this.tempFolders.clear();
+		this.previousIncrementalIndex = null;
+		this.sourceFingerprints = null;
 		//
 		unconfigureExtraLanguageGenerators();
 	}
@@ -1679,6 +1956,27 @@ public class SarlBatchCompiler {
 		getLogger().info(MessageFormat.format(message, parameters));
 	}
 
+	/** Reports the duration of a compilation phase.
+	 *
+	 * @param phase the name of the phase.
+	 * @param startTime the start time of the phase, given by {@link System#nanoTime()}.
+	 * @since 0.13
+	 */
+	protected void reportPhaseDuration(String phase, long startTime) {
+		final long duration = (System.nanoTime() - startTime) / NANOS_PER_MILLI;
+		getLogger().info(MessageFormat.format(Messages.SarlBatchCompiler_73, phase, Long.toString(duration)));
+	}
+
+	/** Reports that a compilation phase was skipped.
+	 *
+	 * @param phase the name of the phase.
+	 * @param reason the reason for skipping the phase.
+	 * @since 0.13
+	 */
+	protected void reportSkippedPhase(String phase, String reason) {
+		getLogger().info(MessageFormat.format(Messages.SarlBatchCompiler_76, phase, reason));
+	}
+
 	/** Generate the Java files from the SARL scripts.
 	 *
 	 * @param validatedResources the validatedResources for which the Java files could be generated.
@@ -1688,33 +1986,45 @@ public class SarlBatchCompiler {
 		assert progress != null;
 		progress.subTask(Messages.SarlBatchCompiler_49);
 		getLogger().info(MessageFormat.format(Messages.SarlBatchCompiler_28, getOutputPath()));
-		final JavaIoFileSystemAccess javaIoFileSystemAccess = this.javaIoFileSystemAccessProvider.get();
-		javaIoFileSystemAccess.setOutputConfigurations(this.outputConfigurations);
-		// The function configureWorkspace should set the output paths with absolute paths.
-		//javaIoFileSystemAccess.setOutputPath(getOutputPath().getAbsolutePath());
-		javaIoFileSystemAccess.setWriteTrace(isWriteTraceFiles());
 		if (progress.isCanceled()) {
 			return;
 		}
 
-		final GeneratorContext context = new GeneratorContext();
-		context.setCancelIndicator(() -> progress.isCanceled());
-		for (final Resource resource : validatedResources) {
+		final List<Resource> resources = new ArrayList<>();
+		Iterables.addAll(resources, validatedResources);
+		final ResourceSet resourceSet = resources.isEmpty() ? null : resources.get(0).getResourceSet();
+		final boolean parallel = isParallelStage(resourceSet, Messages.SarlBatchCompiler_49);
+		final List<Resource> generatedResources = runStage(resources, parallel, () -> {
+			// The file system access and the generation context are confined into the worker.
+			final JavaIoFileSystemAccess javaIoFileSystemAccess = this.javaIoFileSystemAccessProvider.get();
+			javaIoFileSystemAccess.setOutputConfigurations(this.outputConfigurations);
+			// The function configureWorkspace should set the output paths with absolute paths.
+			//javaIoFileSystemAccess.setOutputPath(getOutputPath().getAbsolutePath());
+			javaIoFileSystemAccess.setWriteTrace(isWriteTraceFiles());
+			final GeneratorContext context = new GeneratorContext();
+			context.setCancelIndicator(() -> progress.isCanceled());
+			return resource -> {
+				if (getLogger().isLoggable(Level.FINEST)) {
+					getLogger().finest(MessageFormat.format(Messages.SarlBatchCompiler_23, resource.getURI().lastSegment()));
+				}
+				if (isWriteStorageFiles() && resource instanceof StorageAwareResource) {
+					final StorageAwareResource storageAwareResource = (StorageAwareResource) resource;
+					storageAwareResource.getResourceStorageFacade().saveResource(storageAwareResource, javaIoFileSystemAccess);
+				}
+				if (progress.isCanceled()) {
+					return null;
+				}
+				this.generator.generate(resource, javaIoFileSystemAccess, context);
+				return resource;
+			};
+		}, progress);
+		for (final Resource resource : generatedResources) {
 			if (progress.isCanceled()) {
 				return;
 			}
-			if (getLogger().isLoggable(Level.FINEST)) {
-				getLogger().finest(MessageFormat.format(Messages.SarlBatchCompiler_23, resource.getURI().lastSegment()));
-			}
-			if (isWriteStorageFiles() && resource instanceof StorageAwareResource) {
-				final StorageAwareResource storageAwareResource = (StorageAwareResource) resource;
-				storageAwareResource.getResourceStorageFacade().saveResource(storageAwareResource, javaIoFileSystemAccess);
-			}
-			if (progress.isCanceled()) {
-				return;
+			if (resource != null) {
+				notifiesCompiledResourceReceiver(resource);
 			}
-			this.generator.generate(resource, javaIoFileSystemAccess, context);
-			notifiesCompiledResourceReceiver(resource);
 		}
 	}
 
@@ -1738,16 +2048,14 @@ public class SarlBatchCompiler {
 				toBeResolved.add(resource);
 			}
 		}
-		for (final Resource resource : toBeResolved) {
-			if (progress.isCanceled()) {
-				return;
-			}
+		runStage(toBeResolved, isParallelStage(resourceSet, Messages.SarlBatchCompiler_21), () -> resource -> {
 			if (getLogger().isLoggable(Level.FINEST)) {
 				getLogger().finest(MessageFormat.format(Messages.SarlBatchCompiler_26, resource.getURI().lastSegment()));
 			}
 			EcoreUtil.resolveAll(resource);
 			EcoreUtil2.resolveLazyCrossReferences(resource, CancelIndicator.NullImpl);
-		}
+			return resource;
+		}, progress);
 	}
 
 	/** Generate the JVM model elements, and validate generated elements.
@@ -1762,55 +2070,172 @@ public class SarlBatchCompiler {
 		assert progress != null;
 		progress.subTask(Messages.SarlBatchCompiler_38);
 		getLogger().info(Messages.SarlBatchCompiler_38);
-		final List<Resource> resources = new LinkedList<>(resourceSet.getResources());
+		final List<Resource> resources = new ArrayList<>();
+		for (final Resource resource : resourceSet.getResources()) {
+			if (isSourceFile(resource)) {
+				resources.add(resource);
+			}
+		}
 		final List<Issue> issuesToReturn = new ArrayList<>();
-		for (final Resource resource : resources) {
-			if (progress.isCanceled()) {
-				return issuesToReturn;
+		if (progress.isCanceled()) {
+			return issuesToReturn;
+		}
+		final boolean parallel = isParallelStage(resourceSet, Messages.SarlBatchCompiler_38);
+		final List<ValidationResult> results = runStage(resources, parallel, () -> resource -> {
+			if (getLogger().isLoggable(Level.FINEST)) {
+				getLogger().finest(MessageFormat.format(Messages.SarlBatchCompiler_22, resource.getURI().lastSegment()));
 			}
-			if (isSourceFile(resource)) {
-				if (getLogger().isLoggable(Level.FINEST)) {
-					getLogger().finest(MessageFormat.format(Messages.SarlBatchCompiler_22, resource.getURI().lastSegment()));
+			final IResourceServiceProvider resourceServiceProvider = IResourceServiceProvider.Registry.INSTANCE
+					.getResourceServiceProvider(resource.getURI());
+			if (resourceServiceProvider != null) {
+				final IResourceValidator resourceValidator = resourceServiceProvider.getResourceValidator();
+				final List<Issue> result = resourceValidator.validate(resource, CheckMode.ALL, null);
+				if (progress.isCanceled()) {
+					return null;
 				}
-				final IResourceServiceProvider resourceServiceProvider = IResourceServiceProvider.Registry.INSTANCE
-						.getResourceServiceProvider(resource.getURI());
-				if (resourceServiceProvider != null) {
-					final IResourceValidator resourceValidator = resourceServiceProvider.getResourceValidator();
-					final List<Issue> result = resourceValidator.validate(resource, CheckMode.ALL, null);
+				final SortedSet<Issue> issues = new TreeSet<>(getIssueComparator());
+				boolean hasValidationError = false;
+				for (final Issue issue : result) {
 					if (progress.isCanceled()) {
-						return issuesToReturn;
+						return null;
 					}
-					final SortedSet<Issue> issues = new TreeSet<>(getIssueComparator());
-					boolean hasValidationError = false;
-					for (final Issue issue : result) {
-						if (progress.isCanceled()) {
-							return issuesToReturn;
-						}
-						if (issue.isSyntaxError() || issue.getSeverity() == Severity.ERROR) {
-							hasValidationError = true;
-						}
-						issues.add(issue);
+					if (issue.isSyntaxError() || issue.getSeverity() == Severity.ERROR) {
+						hasValidationError = true;
 					}
-					if (!hasValidationError) {
-						if (!issues.isEmpty()) {
-							if (getLogger().isLoggable(Level.FINEST)) {
-								getLogger().finest(MessageFormat.format(Messages.SarlBatchCompiler_39, resource.getURI().lastSegment()));
-							}
-							issuesToReturn.addAll(issues);
-						}
-						validResources.add(resource);
-					} else {
-						if (getLogger().isLoggable(Level.FINEST)) {
-							getLogger().finest(MessageFormat.format(Messages.SarlBatchCompiler_39, resource.getURI().lastSegment()));
-						}
-						issuesToReturn.addAll(issues);
+					issues.add(issue);
+				}
+				return new ValidationResult(resource, issues, !hasValidationError);
+			}
+			return null;
+		}, progress);
+		// The results are merged in the order of the resources for having the same issue ordering as
+		// a sequential validation, whatever the partitioning of the resources over the worker threads.
+		for (final ValidationResult result : results) {
+			if (progress.isCanceled()) {
+				return issuesToReturn;
+			}
+			if (result != null) {
+				final Resource resource = result.resource;
+				if (!result.issues.isEmpty()) {
+					if (getLogger().isLoggable(Level.FINEST)) {
+						getLogger().finest(MessageFormat.format(Messages.SarlBatchCompiler_39, resource.getURI().lastSegment()));
 					}
+					issuesToReturn.addAll(result.issues);
+				}
+				if (result.valid) {
+					validResources.add(resource);
 				}
 			}
 		}
 		return issuesToReturn;
 	}
 
+	/** Replies if a compilation stage could be run in parallel on the resources of the given resource set.
+	 *
+	 * <p>The linking, the validation and the generation may load new resources (mostly JVM types) into
+	 * the resource set. They could be run in parallel only if the resource set is protected against
+	 * concurrent accesses, i.e. if it is a {@link SynchronizedXtextResourceSet}.
+	 *
+	 * @param resourceSet the resource set that contains the resources of the stage.
+	 * @param stage the name of the stage.
+	 * @return {@code true} if the stage could be run in parallel.
+	 */
+	private boolean isParallelStage(ResourceSet resourceSet, String stage) {
+		if (isParallelCompilation()) {
+			if (resourceSet instanceof SynchronizedXtextResourceSet) {
+				return true;
+			}
+			getLogger().info(MessageFormat.format(Messages.SarlBatchCompiler_66, stage));
+		}
+		return false;
+	}
+
+	/** Run a compilation stage on each of the given resources.
+	 *
+	 * <p>If the stage is run in parallel, the resources are partitioned into contiguous blocks, and each block is
+	 * treated by a worker thread. The worker factory is invoked once per block in order to let each worker have its
+	 * own thread-confined tools (file system access, caches, etc.).
+	 * Otherwise, the worker factory is invoked once and the resources are treated on the calling thread.
+	 *
+	 * @param <T> the type of the results of the stage.
+	 * @param resources the resources to treat.
+	 * @param parallel indicates if the stage could be run in parallel.
+	 * @param workerFactory the factory of the workers that treat the resources.
+	 * @param progress monitor of the progress of the compilation.
+	 * @return the results of the workers, in the same order as the resources. A result is {@code null} if the
+	 *     resource was not treated, e.g. when the compilation was canceled.
+	 * @since 0.13
+	 */
+	protected <T> List<T> runStage(List<Resource> resources, boolean parallel,
+			Supplier<? extends Function<Resource, T>> workerFactory, IProgressMonitor progress) {
+		final int size = resources.size();
+		final Object[] results = new Object[size];
+		final int nbBlocks = parallel ? Math.min(getParallelThreadCount(), size) : 1;
+		if (nbBlocks <= 1) {
+			runBlock(resources, 0, size, workerFactory, results, progress);
+		} else {
+			final ExecutorService pool = getWorkerPool();
+			final List<Callable<Object>> blocks = new ArrayList<>(nbBlocks);
+			for (int i = 0; i < nbBlocks; ++i) {
+				final int start = (int) ((long) i * size / nbBlocks);
+				final int end = (int) ((long) (i + 1) * size / nbBlocks);
+				blocks.add(Executors.callable(() -> runBlock(resources, start, end, workerFactory, results, progress)));
+			}
+			try {
+				for (final Future<Object> future : pool.invokeAll(blocks)) {
+					future.get();
+				}
+			} catch (ExecutionException exception) {
+				final Throwable cause = exception.getCause();
+				if (cause instanceof RuntimeException) {
+					throw (RuntimeException) cause;
+				}
+				if (cause instanceof Error) {
+					throw (Error) cause;
+				}
+				throw new RuntimeException(cause);
+			} catch (InterruptedException exception) {
+				Thread.currentThread().interrupt();
+				throw new RuntimeException(exception);
+			}
+		}
+		@SuppressWarnings("unchecked")
+		final List<T> list = (List<T>) Arrays.asList(results);
+		return list;
+	}
+
+	private static <T> void runBlock(List<Resource> resources, int start, int end,
+			Supplier<? extends Function<Resource, T>> workerFactory, Object[] results, IProgressMonitor progress) {
+		final Function<Resource, T> worker = workerFactory.get();
+		for (int i = start; i < end; ++i) {
+			if (progress.isCanceled()) {
+				return;
+			}
+			results[i] = worker.apply(resources.get(i));
+		}
+	}
+
+	/** Replies the pool of worker threads that is used for running the compilation stages in parallel.
+	 * The pool is created on demand and it is shut down at the end of the compilation.
+	 *
+	 * @return the pool of worker threads.
+	 * @since 0.13
+	 */
+	protected synchronized ExecutorService getWorkerPool() {
+		if (this.workerPool == null) {
+			final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+			final AtomicInteger threadCount = new AtomicInteger();
+			this.workerPool = Executors.newFixedThreadPool(getParallelThreadCount(), runnable -> {
+				final Thread thread = new Thread(runnable,
+						MessageFormat.format(Messages.SarlBatchCompiler_67, Integer.valueOf(threadCount.incrementAndGet())));
+				thread.setDaemon(true);
+				thread.setContextClassLoader(contextClassLoader);
+				return thread;
+			});
+		}
+		return this.workerPool;
+	}
+
 	/** Replies if the given resource is a script.
 	 *
 	 * @param resource the resource to test.
@@ -1834,13 +2259,13 @@ public class SarlBatchCompiler {
 	protected CompilerStatus preCompileStubs(File sourceDirectory, File classDirectory, IProgressMonitor progress) {
 		assert progress != null;
 		progress.subTask(Messages.SarlBatchCompiler_50);
-		return runJavaCompiler(classDirectory, Collections.singletonList(sourceDirectory), getClassPath(),
+		return runJavaCompiler(classDirectory, Collections.singletonList(sourceDirectory), getCompilationClassPath(),
 				getModulePath(), true, false, progress);
 	}
 
 	/** Compile the java files before the compilation of the project's files.
 	 *
-	 * @param sourceDirectory the source directory where java files are stored.
+	 * @param sourceDirectory the source directory where stubs are stored, or {@code null} if no stub was generated.
 	 * @param classDirectory the output directory, where binary files should be generated.
 	 * @param progress monitor of the progress of the compilation.
 	 * @return the success status.
@@ -1850,11 +2275,14 @@ public class SarlBatchCompiler {
 		progress.subTask(Messages.SarlBatchCompiler_51);
 		final Iterable<File> cp;
 		final Iterable<File> mp;
-		if (isModuleSupported()) {
-			cp = Iterables.concat(Collections.singleton(sourceDirectory), getClassPath());
+		if (sourceDirectory == null) {
+			cp = getCompilationClassPath();
+			mp = Collections.emptyList();
+		} else if (isModuleSupported()) {
+			cp = Iterables.concat(Collections.singleton(sourceDirectory), getCompilationClassPath());
 			mp = Collections.emptyList();
 		} else {
-			cp = Iterables.concat(Collections.singleton(sourceDirectory), getClassPath());
+			cp = Iterables.concat(Collections.singleton(sourceDirectory), getCompilationClassPath());
 			mp = Collections.emptyList();
 		}
 		return runJavaCompiler(classDirectory, getSourcePaths(),
@@ -2055,6 +2483,89 @@ public class SarlBatchCompiler {
 		return outputDirectory;
 	}
 
+	/** Replies the Java source files that are in the source folders.
+	 *
+	 * @param progress monitor of the progress of the compilation.
+	 * @return the Java source files.
+	 * @since 0.13
+	 */
+	protected List<File> findJavaSourceFiles(IProgressMonitor progress) {
+		final List<File> javaFiles = new ArrayList<>();
+		final LinkedList<File> folders = new LinkedList<>(getSourcePaths());
+		while (!folders.isEmpty()) {
+			if (progress.isCanceled()) {
+				return javaFiles;
+			}
+			final File[] children = folders.removeFirst().listFiles();
+			if (children != null) {
+				for (final File child : children) {
+					if (child.isDirectory()) {
+						folders.add(child);
+					} else if (child.getName().endsWith(JAVA_FILE_EXTENSION)) {
+						javaFiles.add(child);
+					}
+				}
+			}
+		}
+		return javaFiles;
+	}
+
+	/** Replies if one of the given Java source files may reference a type that is defined in the SARL files.
+	 *
+	 * <p>The detection is based on the simple names of the SARL types that appear as identifiers in
+	 * the Java source files. It may reply {@code true} even if the SARL type is not referenced, e.g.
+	 * when a Java type has the same simple name; but it never replies {@code false} when a SARL type is
+	 * referenced.
+	 *
+	 * @param resourceSet the resource set that contains the SARL files.
+	 * @param javaFiles the Java source files.
+	 * @param progress monitor of the progress of the compilation.
+	 * @return {@code true} if the stubs of the SARL types are needed for compiling the Java files.
+	 * @since 0.13
+	 */
+	protected boolean isSarlTypeReferencedFromJava(ResourceSet resourceSet, List<File> javaFiles, IProgressMonitor progress) {
+		final Set<String> sarlTypeNames = new TreeSet<>();
+		for (final Resource resource : new ArrayList<>(resourceSet.getResources())) {
+			if (progress.isCanceled()) {
+				return true;
+			}
+			final IResourceDescription description = this.resourceDescriptionManager.getResourceDescription(resource);
+			for (final IEObjectDescription type : description.getExportedObjectsByType(TypesPackage.Literals.JVM_DECLARED_TYPE)) {
+				final String name = type.getQualifiedName().getLastSegment();
+				final int index = name.lastIndexOf('$');
+				sarlTypeNames.add(index >= 0 ? name.substring(index + 1) : name);
+			}
+		}
+		if (sarlTypeNames.isEmpty()) {
+			return false;
+		}
+		String encoding = getFileEncoding();
+		if (Strings.isEmpty(encoding)) {
+			encoding = Charset.defaultCharset().name();
+		}
+		for (final File javaFile : javaFiles) {
+			if (progress.isCanceled()) {
+				return true;
+			}
+			final String content;
+			try {
+				content = new String(java.nio.file.Files.readAllBytes(javaFile.toPath()), encoding);
+			} catch (IOException exception) {
+				// Be conservative
+				return true;
+			}
+			for (final String identifier : NON_IDENTIFIER_PATTERN.split(content)) {
+				if (sarlTypeNames.contains(identifier)) {
+					if (getLogger().isLoggable(Level.FINEST)) {
+						getLogger().finest(MessageFormat.format(Messages.SarlBatchCompiler_77, javaFile, identifier));
+					}
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
 	/** Load the SARL files in the given resource set.
 	 *
 	 * @param progress monitor of the progress of the compilation.
@@ -2076,15 +2587,279 @@ public class SarlBatchCompiler {
 		if (progress.isCanceled()) {
 			return;
 		}
-		for (final String source : pathes.keySet()) {
-			for (final org.eclipse.emf.common.util.URI uri : pathes.get(source)) {
+		final Collection<org.eclipse.emf.common.util.URI> uris = pathes.values();
+		final Collection<org.eclipse.emf.common.util.URI> urisToLoad;
+		if (isIncrementalCompilation()) {
+			urisToLoad = prepareIncrementalCompilation(uris, progress);
+		} else {
+			urisToLoad = uris;
+		}
+		for (final org.eclipse.emf.common.util.URI uri : urisToLoad) {
+			if (progress.isCanceled()) {
+				return;
+			}
+			if (getLogger().isLoggable(Level.FINEST)) {
+				getLogger().finest(MessageFormat.format(Messages.SarlBatchCompiler_7, uri));
+			}
+			resourceSet.getResource(uri, true);
+		}
+		if (this.previousIncrementalIndex != null && !progress.isCanceled()) {
+			loadIncrementalDependents(resourceSet, uris, progress);
+		}
+	}
+
+	private static File toFile(org.eclipse.emf.common.util.URI uri) {
+		return new File(uri.toFileString()).getAbsoluteFile();
+	}
+
+	/** Compute the fingerprint of the compiler's configuration. An incremental compilation index that was built
+	 * with another configuration is ignored.
+	 *
+	 * @return the fingerprint.
+	 * @since 0.13
+	 */
+	protected String getConfigurationFingerprint() {
+		final StringBuilder config = new StringBuilder();
+		config.append(SARLVersion.SARL_RELEASE_VERSION).append('\n');
+		config.append(getJavaSourceVersion()).append('\n');
+		config.append(toPathString(getClassPath())).append('\n');
+		config.append(toPathString(getModulePath())).append('\n');
+		config.append(toPathString(getSourcePaths())).append('\n');
+		config.append(getClassOutputPath()).append('\n');
+		config.append(getOptimizationLevel()).append('\n');
+		config.append(getExtraLanguageGenerators()).append('\n');
+		config.append(isWriteTraceFiles()).append(isWriteStorageFiles());
+		config.append(isGenerateInlineAnnotation()).append(isUseExpressionInterpreterForInlineAnnotation());
+		config.append(isGeneratePureAnnotation()).append(isGenerateEqualityTestFunctions());
+		config.append(isGenerateToStringFunctions()).append(isGenerateCloneFunctions());
+		config.append(isGenerateSerialNumberFields()).append(isGenerateExpressions());
+		config.append(isGenerateSyntheticSuppressWarnings()).append(isGenerateGeneratedAnnotation());
+		return IncrementalCompilationIndex.computeFingerprint(config.toString());
+	}
+
+	/** Compute the fingerprints of the SARL files, load the index of the previous compilation, and
+	 * determine the files that must be compiled.
+	 *
+	 * @param uris the URIs of all the SARL files.
+	 * @param progress monitor of the progress of the compilation.
+	 * @return the URIs of the SARL files to compile.
+	 * @since 0.13
+	 */
+	protected Collection<org.eclipse.emf.common.util.URI> prepareIncrementalCompilation(
+			Collection<org.eclipse.emf.common.util.URI> uris, IProgressMonitor progress) {
+		this.sourceFingerprints = new TreeMap<>();
+		for (final org.eclipse.emf.common.util.URI uri : uris) {
+			if (progress.isCanceled()) {
+				return uris;
+			}
+			final File file = toFile(uri);
+			try {
+				this.sourceFingerprints.put(file, IncrementalCompilationIndex.computeFingerprint(file));
+			} catch (IOException exception) {
+				// The file is always compiled
+				this.sourceFingerprints.put(file, ""); //$NON-NLS-1$
+			}
+		}
+		final File indexFile = getIncrementalCompilationIndexFile();
+		IncrementalCompilationIndex index = null;
+		// The class files of the previous compilation are needed for resolving the types of the files that are not compiled.
+		final File classOutput = getClassOutputPath();
+		final String[] classFiles = classOutput == null ? null : classOutput.list();
+		if (indexFile != null && isJavaPostCompilationEnable() && classFiles != null && classFiles.length > 0) {
+			try {
+				index = IncrementalCompilationIndex.load(indexFile, getConfigurationFingerprint());
+			} catch (IOException exception) {
+				reportInternalWarning(MessageFormat.format(Messages.SarlBatchCompiler_68, indexFile), exception);
+			}
+		}
+		if (index == null) {
+			getLogger().info(Messages.SarlBatchCompiler_69);
+			return uris;
+		}
+		this.previousIncrementalIndex = index;
+		final Set<File> affected = index.getAffectedFiles(this.sourceFingerprints);
+		for (final File file : index.getSourceFiles()) {
+			if (affected.contains(file) || !this.sourceFingerprints.containsKey(file)) {
+				removeGeneratedFiles(index.getEntry(file));
+			}
+		}
+		getLogger().info(MessageFormat.format(Messages.SarlBatchCompiler_70,
+				Integer.valueOf(affected.size()), Integer.valueOf(uris.size())));
+		final List<org.eclipse.emf.common.util.URI> urisToLoad = new ArrayList<>(affected.size());
+		for (final org.eclipse.emf.common.util.URI uri : uris) {
+			if (affected.contains(toFile(uri))) {
+				urisToLoad.add(uri);
+			}
+		}
+		return urisToLoad;
+	}
+
+	/** Load the indexed SARL files that depend on the names that are exported by the loaded files.
+	 * This function supports the new files and the new names that were not known by the index.
+	 *
+	 * @param resourceSet the resource set.
+	 * @param uris the URIs of all the SARL files.
+	 * @param progress monitor of the progress of the compilation.
+	 */
+	private void loadIncrementalDependents(ResourceSet resourceSet, Collection<org.eclipse.emf.common.util.URI> uris,
+			IProgressMonitor progress) {
+		final Set<File> loadedFiles = new TreeSet<>();
+		final Set<String> exportedNames = new TreeSet<>();
+		for (final Resource resource : new ArrayList<>(resourceSet.getResources())) {
+			if (progress.isCanceled()) {
+				return;
+			}
+			if (resource.getURI().isFile()) {
+				loadedFiles.add(toFile(resource.getURI()));
+				final IResourceDescription description = this.resourceDescriptionManager.getResourceDescription(resource);
+				for (final IEObjectDescription exportedObject : description.getExportedObjects()) {
+					exportedNames.add(exportedObject.getQualifiedName().toLowerCase().toString());
+				}
+			}
+		}
+		final Set<File> dependents = this.previousIncrementalIndex.getDependentFiles(
+				exportedNames, loadedFiles, this.sourceFingerprints.keySet());
+		if (!dependents.isEmpty()) {
+			for (final org.eclipse.emf.common.util.URI uri : uris) {
 				if (progress.isCanceled()) {
 					return;
 				}
-				if (getLogger().isLoggable(Level.FINEST)) {
-					getLogger().finest(MessageFormat.format(Messages.SarlBatchCompiler_7, uri));
+				final File file = toFile(uri);
+				if (dependents.contains(file)) {
+					removeGeneratedFiles(this.previousIncrementalIndex.getEntry(file));
+					if (getLogger().isLoggable(Level.FINEST)) {
+						getLogger().finest(MessageFormat.format(Messages.SarlBatchCompiler_7, uri));
+					}
+					resourceSet.getResource(uri, true);
+				}
+			}
+		}
+	}
+
+	/** Remove the Java and class files that were generated from the SARL file that is described
+	 * by the given index entry.
+	 *
+	 * @param entry the index entry.
+	 */
+	private void removeGeneratedFiles(IncrementalCompilationIndex.Entry entry) {
+		if (entry == null) {
+			return;
+		}
+		final File output = getOutputPath();
+		final File classOutput = getClassOutputPath();
+		for (final String type : entry.getGeneratedTypes()) {
+			final String basename = type.replace('.', File.separatorChar);
+			final File javaFile = new File(output, basename + ".java"); //$NON-NLS-1$
+			final File traceFile = new File(javaFile.getParentFile(), "." + javaFile.getName() + "._trace"); //$NON-NLS-1$ //$NON-NLS-2$
+			javaFile.delete();
+			traceFile.delete();
+			if (classOutput != null) {
+				final File classFile = new File(classOutput, basename + ".class"); //$NON-NLS-1$
+				final File classFolder = classFile.getParentFile();
+				final String innerPrefix = classFile.getName().replaceFirst("\\.class$", "\\$"); //$NON-NLS-1$ //$NON-NLS-2$
+				classFile.delete();
+				if (classFolder != null && classFolder.isDirectory()) {
+					final File[] innerClasses = classFolder.listFiles(it -> it.getName().startsWith(innerPrefix));
+					if (innerClasses != null) {
+						for (final File innerClass : innerClasses) {
+							innerClass.delete();
+						}
+					}
+				}
+			}
+		}
+	}
+
+	/** Build the index for the next incremental compilation. The index contains the entries of the compiled
+	 * SARL files, and the entries of the previous index for the files that were not compiled.
+	 *
+	 * @param resourceSet the resource set.
+	 * @param progress monitor of the progress of the compilation.
+	 * @return the index.
+	 * @since 0.13
+	 */
+	protected IncrementalCompilationIndex buildIncrementalCompilationIndex(ResourceSet resourceSet, IProgressMonitor progress) {
+		final IncrementalCompilationIndex index = new IncrementalCompilationIndex(getConfigurationFingerprint());
+		if (this.sourceFingerprints == null) {
+			return index;
+		}
+		if (this.previousIncrementalIndex != null) {
+			for (final File file : this.previousIncrementalIndex.getSourceFiles()) {
+				if (this.sourceFingerprints.containsKey(file)) {
+					index.setEntry(file, this.previousIncrementalIndex.getEntry(file));
+				}
+			}
+		}
+		for (final Resource resource : resourceSet.getResources()) {
+			if (progress.isCanceled()) {
+				return null;
+			}
+			if (isSourceFile(resource) && resource.getURI().isFile()) {
+				final File file = toFile(resource.getURI());
+				final String fingerprint = this.sourceFingerprints.get(file);
+				if (fingerprint != null) {
+					final IResourceDescription description = this.resourceDescriptionManager.getResourceDescription(resource);
+					final Set<String> exportedNames = new TreeSet<>();
+					for (final IEObjectDescription exportedObject : description.getExportedObjects()) {
+						exportedNames.add(exportedObject.getQualifiedName().toLowerCase().toString());
+					}
+					final Set<String> importedNames = new TreeSet<>();
+					for (final QualifiedName name : description.getImportedNames()) {
+						importedNames.add(name.toLowerCase().toString());
+					}
+					final Set<String> generatedTypes = new TreeSet<>();
+					for (final JvmDeclaredType type : Iterables.filter(resource.getContents(), JvmDeclaredType.class)) {
+						generatedTypes.add(type.getQualifiedName());
+					}
+					collectReferencedTypeNames(resource, importedNames);
+					importedNames.removeAll(exportedNames);
+					index.setEntry(file, new IncrementalCompilationIndex.Entry(
+							fingerprint, exportedNames, importedNames, generatedTypes));
+				}
+			}
+		}
+		return index;
+	}
+
+	/** Collect the names of the top-level types that are referenced from the given resource.
+	 * The names that are provided by the resource description are not always including the references
+	 * to the types that are resolved by the JVM type provider.
+	 *
+	 * @param resource the resource to explore.
+	 * @param names the collection to fill with the lower case names.
+	 */
+	private static void collectReferencedTypeNames(Resource resource, Set<String> names) {
+		final Iterator<EObject> iterator = resource.getAllContents();
+		while (iterator.hasNext()) {
+			for (final EObject target : iterator.next().eCrossReferences()) {
+				if (!target.eIsProxy() && target.eResource() != resource) {
+					JvmDeclaredType type = EcoreUtil2.getContainerOfType(target, JvmDeclaredType.class);
+					if (type != null) {
+						while (type.getDeclaringType() != null) {
+							type = type.getDeclaringType();
+						}
+						final String name = type.getQualifiedName('.');
+						if (name != null) {
+							names.add(name.toLowerCase());
+						}
+					}
 				}
-				resourceSet.getResource(uri, true);
+			}
+		}
+	}
+
+	/** Save the index for the next incremental compilation.
+	 *
+	 * @param index the index.
+	 * @since 0.13
+	 */
+	protected void saveIncrementalCompilationIndex(IncrementalCompilationIndex index) {
+		final File indexFile = getIncrementalCompilationIndexFile();
+		if (indexFile != null) {
+			try {
+				index.save(indexFile);
+			} catch (IOException exception) {
+				reportInternalWarning(MessageFormat.format(Messages.SarlBatchCompiler_68, indexFile), exception);
 			}
 		}
 	}
@@ -2373,34 +3148,34 @@ public class SarlBatchCompiler {
 		if (temporaryClassDirectory != null) {
 			if (isModuleSupported()) {
 				if (isModularProject()) {
-					classpath = getClassPath();
+					classpath = getCompilationClassPath();
 					modulepath = Iterables.concat(
 							Collections.singletonList(temporaryClassDirectory),
 							getModulePath(), getSourcePaths());
 				} else {
 					classpath = Iterables.concat(
 							Collections.singletonList(temporaryClassDirectory),
-							getClassPath(), getSourcePaths());
+							getCompilationClassPath(), getSourcePaths());
 					modulepath = getModulePath();
 				}
 			} else {
 				classpath = Iterables.concat(
 						Collections.singletonList(temporaryClassDirectory),
-						getClassPath(), getSourcePaths());
+						getCompilationClassPath(), getSourcePaths());
 				modulepath = Collections.emptyList();
 			}
 		} else if (isModuleSupported()) {
 			if (isModularProject()) {
-				classpath = getClassPath();
+				classpath = getCompilationClassPath();
 				modulepath = Iterables.concat(
 						getModulePath(), getSourcePaths());
 			} else {
 				classpath = Iterables.concat(
-						getClassPath(), getSourcePaths());
+						getCompilationClassPath(), getSourcePaths());
 				modulepath = getModulePath();
 			}
 		} else {
-			classpath = Iterables.concat(getClassPath(), getSourcePaths());
+			classpath = Iterables.concat(getCompilationClassPath(), getSourcePaths());
 			modulepath = Collections.emptyList();
 		}
 		if (getLogger().isLoggable(Level.FINEST)) {
@@ -2414,13 +3189,16 @@ public class SarlBatchCompiler {
 			parentClassLoader = getClass().getClassLoader();
 		} else if (getBootClassPath().isEmpty()) {
 			parentClassLoader = getCurrentClassLoader();
+		} else if (isClassLoaderSharing()) {
+			parentClassLoader = acquireSharedClassLoader(getBootClassPath(), null,
+				(files, parent) -> new AlternateJdkLoader(files));
 		} else {
 			parentClassLoader = new AlternateJdkLoader(getBootClassPath());
 		}
 		if (progress.isCanceled()) {
 			return;
 		}
-		this.jvmTypesClassLoader = createClassLoader(classpath, modulepath, parentClassLoader);
+		this.jvmTypesClassLoader = createCompilationClassLoader(classpath, modulepath, parentClassLoader);
 		if (progress.isCanceled()) {
 			return;
 		}
@@ -2435,7 +3213,7 @@ public class SarlBatchCompiler {
 
 		// for annotation processing we need to have the compiler's classpath as a parent.
 		progress.subTask(Messages.SarlBatchCompiler_59);
-		this.annotationProcessingClassLoader = createClassLoader(classpath, modulepath, getCurrentClassLoader());
+		this.annotationProcessingClassLoader = createCompilationClassLoader(classpath, modulepath, getCurrentClassLoader());
 		if (progress.isCanceled()) {
 			return;
 		}
@@ -2454,6 +3232,39 @@ public class SarlBatchCompiler {
 		});
 	}
 	
+	/** Create the class loader for the compilation, with the archives that are loaded by a shared class loader
+	 * if the {@link #isClassLoaderSharing() class loader sharing} is enabled.
+	 *
+	 * @param classPath the project class path.
+	 * @param modulePath the project class path.
+	 * @param parentClassLoader the parent class loader.
+	 * @return the class loader for the project.
+	 */
+	private ClassLoader createCompilationClassLoader(Iterable<File> classPath, Iterable<File> modulePath,
+			ClassLoader parentClassLoader) {
+		if (isClassLoaderSharing()) {
+			final Iterable<File> path = isModuleSupported() ? Iterables.concat(classPath, modulePath) : classPath;
+			final List<File> archives = new ArrayList<>();
+			Iterables.addAll(archives, Iterables.filter(path, it -> it.isFile()));
+			if (!archives.isEmpty()) {
+				final ClassLoader sharedLoader = acquireSharedClassLoader(archives, parentClassLoader,
+					(files, parent) -> createClassLoader(files, Collections.emptyList(), parent));
+				return createClassLoader(
+						Iterables.filter(classPath, it -> !it.isFile()),
+						Iterables.filter(modulePath, it -> !it.isFile()),
+						sharedLoader);
+			}
+		}
+		return createClassLoader(classPath, modulePath, parentClassLoader);
+	}
+
+	private ClassLoader acquireSharedClassLoader(List<File> files, ClassLoader parent,
+			BiFunction<List<File>, ClassLoader, ClassLoader> factory) {
+		final ClassLoader loader = getSharedClassLoaderCache().acquire(files, parent, factory);
+		this.sharedClassLoaders.add(loader);
+		return loader;
+	}
+
 	/** Create the project class loader.
 	 *
 	 * @param classPath the project class path.
@@ -2461,14 +3272,14 @@ public class SarlBatchCompiler {
 	 * @param parentClassLoader the parent class loader.
 	 * @return the class loader for the project.
 	 */
-	@SuppressWarnings("static-method")
 	protected ClassLoader createClassLoader(Iterable<File> classPath, Iterable<File> modulePath, ClassLoader parentClassLoader) {
-		if (isModuleSupported()) {
-			return new URLClassLoader(Iterables.toArray(
-					toURL(Iterables.concat(classPath, modulePath)),
-					URL.class), parentClassLoader);
+		final Iterable<File> path = isModuleSupported() ? Iterables.concat(classPath, modulePath) : classPath;
+		final URL[] urls = Iterables.toArray(toURL(path), URL.class);
+		final ClassPathIndex index = getClassPathIndex();
+		if (index != null) {
+			return new IndexedClassLoader(urls, parentClassLoader, index.createLookup(path));
 		}
-		return new URLClassLoader(Iterables.toArray(toURL(classPath), URL.class), parentClassLoader);
+		return new URLClassLoader(urls, parentClassLoader);
 	}
 
 	/** Null-safe destruction of the given class loaders.
@@ -2548,6 +3359,30 @@ public class SarlBatchCompiler {
 
 	}
 
+	/** Result of the validation of a single resource.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 0.13
+	 */
+	private static final class ValidationResult {
+
+		private final Resource resource;
+
+		private final SortedSet<Issue> issues;
+
+		private final boolean valid;
+
+		ValidationResult(Resource resource, SortedSet<Issue> issues, boolean valid) {
+			this.resource = resource;
+			this.issues = issues;
+			this.valid = valid;
+		}
+
+	}
+
 	/** Comparator of issues.
 	 *
 	 * @author $Author: sgalland$
@@ -0,0 +1,237 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2021 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.lang.compiler.batch;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiFunction;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+/** Cache of the class loaders that are created by the batch compiler for the archives of the class path.
+ *
+ * <p>When the batch compiler is run several times into the same virtual machine, e.g. by the
+ * {@code sarlc} daemon or by the Maven plugin across the modules of a reactor, the classes of the
+ * libraries are loaded again and again by a fresh class loader. This cache keeps the class loaders of
+ * the archives alive between the runs. An entry is reused only if the parent class loader is the same,
+ * and if all the archives have the same paths, sizes and modification dates as when the entry was created.
+ *
+ * <p>An entry that is not used by a compilation anymore is kept in the cache. When the number of entries
+ * is greater than the capacity of the cache, the least recently used entries that are not used are closed
+ * and removed.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.13
+ */
+public class SharedClassLoaderCache {
+
+	/** Default number of class loaders that are kept in the cache.
+	 */
+	public static final int DEFAULT_CAPACITY = 8;
+
+	private static final SharedClassLoaderCache SHARED_INSTANCE = new SharedClassLoaderCache(DEFAULT_CAPACITY);
+
+	private final int capacity;
+
+	private final Map<Key, Entry> entries = new LinkedHashMap<>(DEFAULT_CAPACITY, .75f, true);
+
+	private final Map<ClassLoader, Entry> entriesByLoader = new IdentityHashMap<>();
+
+	/** Constructor.
+	 *
+	 * @param capacity the number of class loaders that could be kept in the cache when they are not used.
+	 */
+	public SharedClassLoaderCache(int capacity) {
+		this.capacity = Math.max(1, capacity);
+	}
+
+	/** Replies the cache that is shared by all the batch compilers of the virtual machine.
+	 *
+	 * @return the shared cache.
+	 */
+	@Pure
+	public static SharedClassLoaderCache getSharedInstance() {
+		return SHARED_INSTANCE;
+	}
+
+	/** Replies the number of class loaders in the cache.
+	 *
+	 * @return the number of class loaders.
+	 */
+	@Pure
+	public synchronized int size() {
+		return this.entries.size();
+	}
+
+	/** Replies the class loader for the given files, and mark it as used.
+	 * A call to this function must be followed by a call to {@link #release(ClassLoader)}
+	 * when the class loader is not used anymore.
+	 *
+	 * @param files the files that are accessible from the class loader.
+	 * @param parent the parent class loader, it is compared by identity.
+	 * @param factory the creator of class loader that is invoked when no class loader is in the cache.
+	 *     It takes the files and the parent as arguments.
+	 * @return the class loader.
+	 */
+	public synchronized ClassLoader acquire(List<File> files, ClassLoader parent,
+			BiFunction<List<File>, ClassLoader, ClassLoader> factory) {
+		final Key key = new Key(files, parent);
+		Entry entry = this.entries.get(key);
+		if (entry == null) {
+			entry = new Entry(factory.apply(files, parent));
+			this.entries.put(key, entry);
+			this.entriesByLoader.put(entry.loader, entry);
+		}
+		++entry.users;
+		evict();
+		return entry.loader;
+	}
+
+	/** Mark the given class loader as not used by the caller anymore.
+	 * The class loader stays in the cache.
+	 *
+	 * @param loader the class loader that was replied by {@link #acquire(List, ClassLoader, BiFunction)}.
+	 */
+	public synchronized void release(ClassLoader loader) {
+		final Entry entry = this.entriesByLoader.get(loader);
+		if (entry != null && entry.users > 0) {
+			--entry.users;
+			evict();
+		}
+	}
+
+	/** Close and remove all the class loaders that are not used.
+	 */
+	public synchronized void clear() {
+		final Iterator<Entry> iterator = this.entries.values().iterator();
+		while (iterator.hasNext()) {
+			final Entry entry = iterator.next();
+			if (entry.users <= 0) {
+				iterator.remove();
+				this.entriesByLoader.remove(entry.loader);
+				close(entry.loader);
+			}
+		}
+	}
+
+	private void evict() {
+		int toRemove = this.entries.size() - this.capacity;
+		if (toRemove > 0) {
+			final Iterator<Entry> iterator = this.entries.values().iterator();
+			while (toRemove > 0 && iterator.hasNext()) {
+				final Entry entry = iterator.next();
+				if (entry.users <= 0) {
+					iterator.remove();
+					this.entriesByLoader.remove(entry.loader);
+					close(entry.loader);
+					--toRemove;
+				}
+			}
+		}
+	}
+
+	private static void close(ClassLoader loader) {
+		if (loader instanceof Closeable) {
+			try {
+				((Closeable) loader).close();
+			} catch (IOException exception) {
+				// The class loader is not reachable from the cache anymore
+			}
+		}
+	}
+
+	/** Key of an entry in the cache.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 0.13
+	 */
+	private static final class Key {
+
+		private final ClassLoader parent;
+
+		private final List<String> signature;
+
+		Key(List<File> files, ClassLoader parent) {
+			this.parent = parent;
+			this.signature = new ArrayList<>(files.size() * 3);
+			for (final File file : files) {
+				final File absFile = file.getAbsoluteFile();
+				this.signature.add(absFile.getPath());
+				this.signature.add(Long.toString(absFile.length()));
+				this.signature.add(Long.toString(absFile.lastModified()));
+			}
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (obj instanceof Key) {
+				final Key other = (Key) obj;
+				return this.parent == other.parent && this.signature.equals(other.signature);
+			}
+			return false;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(Integer.valueOf(System.identityHashCode(this.parent)), this.signature);
+		}
+
+	}
+
+	/** Entry in the cache.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 0.13
+	 */
+	private static final class Entry {
+
+		final ClassLoader loader;
+
+		int users;
+
+		Entry(ClassLoader loader) {
+			this.loader = loader;
+		}
+
+	}
+
+}
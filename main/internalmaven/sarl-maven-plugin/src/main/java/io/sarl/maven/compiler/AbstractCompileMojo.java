@@ -139,6 +139,40 @@ public abstract class AbstractCompileMojo extends AbstractSarlBatchCompilerMojo
 	@Parameter(defaultValue = "true", required = false)
 	private boolean generateSerialNumberFields;
 
+	/** Indicates if the linking, validation and generation stages of the SARL compiler are run in parallel.
+	 * @since 0.13
+	 */
+	@Parameter(defaultValue = "false", required = false)
+	private boolean parallelCompilation;
+
+	/** Number of threads that are used by the SARL compiler when it is run in parallel.
+	 * If it is negative or zero, the number of available processors is used.
+	 * @since 0.13
+	 */
+	@Parameter(defaultValue = "0", required = false)
+	private int parallelThreadCount;
+
+	/** Indicates if the SARL compilation is incremental, i.e. only the changed files and their dependents
+	 * are compiled.
+	 * @since 0.13
+	 */
+	@Parameter(defaultValue = "false", required = false)
+	private boolean incrementalCompilation;
+
+	/** Indicates if the SARL components and the class loaders of the dependency archives are kept
+	 * between the executions of the plugin, e.g. across the modules of a multi-module build.
+	 * @since 0.13
+	 */
+	@Parameter(defaultValue = "false", required = false)
+	private boolean reuseCompilerState;
+
+	/** Directory in which the indexes of the dependency archives are stored. If it is not specified,
+	 * the archives are not indexed.
+	 * @since 0.13
+	 */
+	@Parameter(required = false)
+	private File classPathIndexDirectory;
+
 	/** Indicates if the classpath is provided by Tycho.
 	 */
 	@Parameter(defaultValue = "false", required = false)
@@ -328,6 +362,31 @@ public abstract class AbstractCompileMojo extends AbstractSarlBatchCompilerMojo
 		return this.generateSerialNumberFields;
 	}
 
+	@Override
+	protected boolean getParallelCompilation() {
+		return this.parallelCompilation;
+	}
+
+	@Override
+	protected int getParallelThreadCount() {
+		return this.parallelThreadCount;
+	}
+
+	@Override
+	protected boolean getIncrementalCompilation() {
+		return this.incrementalCompilation;
+	}
+
+	@Override
+	protected boolean getReuseCompilerState() {
+		return this.reuseCompilerState;
+	}
+
+	@Override
+	protected File getClassPathIndexDirectory() {
+		return this.classPathIndexDirectory;
+	}
+
 	@Override
 	protected boolean getGeneratePures() {
 		return this.generatePures;
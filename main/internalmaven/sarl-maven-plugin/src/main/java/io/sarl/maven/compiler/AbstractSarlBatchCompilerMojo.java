@@ -78,6 +78,11 @@ import io.sarl.lang.compiler.batch.SarlBatchCompilerUtils;
  */
 public abstract class AbstractSarlBatchCompilerMojo extends AbstractSarlMojo {
 
+	/** The SARL injector that is shared by the executions of the plugin when the compiler state is reused.
+	 * The plugin's class realm is kept by Maven for all the modules of a build.
+	 */
+	private static Injector sharedMainInjector;
+
 	private Injector injector;
 
 	private Provider<SarlBatchCompiler> sarlBatchCompilerProvider;
@@ -101,7 +106,7 @@ public abstract class AbstractSarlBatchCompilerMojo extends AbstractSarlMojo {
 	@Override
 	protected void prepareExecution() throws MojoExecutionException {
 		if (this.injector == null) {
-			final Injector mainInjector = SARLStandaloneSetup.doSetup();
+			final Injector mainInjector = getReuseCompilerState() ? getSharedMainInjector() : SARLStandaloneSetup.doSetup();
 			this.injector = mainInjector.createChildInjector(Arrays.asList(new MavenPrivateModule()));
 		}
 		if (this.sarlBatchCompilerProvider == null) {
@@ -115,6 +120,13 @@ public abstract class AbstractSarlBatchCompilerMojo extends AbstractSarlMojo {
 		}
 	}
 
+	private static synchronized Injector getSharedMainInjector() {
+		if (sharedMainInjector == null) {
+			sharedMainInjector = SARLStandaloneSetup.doSetup();
+		}
+		return sharedMainInjector;
+	}
+
 	/** Replies the batch compiler for SARL.
 	 *
 	 * @return the batch compiler.
@@ -195,6 +207,42 @@ public abstract class AbstractSarlBatchCompilerMojo extends AbstractSarlMojo {
 	 */
 	protected abstract boolean getGenerateSerialNumberFields();
 
+	/** Replies if the linking, validation and generation stages of the SARL compiler are run in parallel.
+	 *
+	 * @return <code>true</code> for running the stages in parallel.
+	 * @since 0.13
+	 */
+	protected abstract boolean getParallelCompilation();
+
+	/** Replies the number of threads that are used by the SARL compiler when it is run in parallel.
+	 *
+	 * @return the number of threads. If it is negative or zero, the number of available processors is used.
+	 * @since 0.13
+	 */
+	protected abstract int getParallelThreadCount();
+
+	/** Replies if the SARL compilation is incremental.
+	 *
+	 * @return <code>true</code> for compiling only the changed files and their dependents.
+	 * @since 0.13
+	 */
+	protected abstract boolean getIncrementalCompilation();
+
+	/** Replies if the SARL components and the class loaders of the dependency archives are kept
+	 * between the executions of the plugin.
+	 *
+	 * @return <code>true</code> for reusing the SARL components and the class loaders.
+	 * @since 0.13
+	 */
+	protected abstract boolean getReuseCompilerState();
+
+	/** Replies the directory in which the indexes of the dependency archives are stored.
+	 *
+	 * @return the directory, or {@code null} if the archives are not indexed.
+	 * @since 0.13
+	 */
+	protected abstract File getClassPathIndexDirectory();
+
 	/** Replies the list of the extra-language generators' identifiers that should be enabled.
 	 *
 	 * @return the list of extra-language generators' identifiers.
@@ -289,7 +337,7 @@ public abstract class AbstractSarlBatchCompilerMojo extends AbstractSarlMojo {
 			File classOutputPath) throws MojoExecutionException, MojoFailureException {
 		final SarlBatchCompiler compiler = getBatchCompiler();
 		final MavenProject project = getProject();
-		compiler.setResourceSetProvider(new MavenProjectResourceSetProvider(project));
+		compiler.setResourceSetProvider(new MavenProjectResourceSetProvider(project, getParallelCompilation()));
 		final Iterable<File> filtered = Iterables.filter(sourcePaths, input -> input.isDirectory());
 		if (Iterables.isEmpty(filtered)) {
 			final String dir = Iterables.toString(sourcePaths);
@@ -329,6 +377,11 @@ public abstract class AbstractSarlBatchCompilerMojo extends AbstractSarlMojo {
 		compiler.setGenerateToStringFunctions(getGenerateToStringFunctions());
 		compiler.setGenerateCloneFunctions(getGenerateCloneFunctions());
 		compiler.setGenerateSerialNumberFields(getGenerateSerialNumberFields());
+		compiler.setParallelCompilation(getParallelCompilation());
+		compiler.setParallelThreadCount(getParallelThreadCount());
+		compiler.setIncrementalCompilation(getIncrementalCompilation());
+		compiler.setClassLoaderSharing(getReuseCompilerState());
+		compiler.setClassPathIndexDirectory(getClassPathIndexDirectory());
 
 		final StringBuilder builder = new StringBuilder();
 		for (final String identifier : getExtraGenerators()) {
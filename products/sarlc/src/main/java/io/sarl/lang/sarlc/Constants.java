@@ -43,6 +43,18 @@ public final class Constants {
 	 */
 	public static final String JAVA_OUTPUT_DIRECTORY_OPTION = "outputdir"; //$NON-NLS-1$
 
+	/** Name of the option for submitting the compilation to the sarlc daemon, without the {@code -} and the {@code /} prefixes.
+	 *
+	 * @since 0.13
+	 */
+	public static final String CONNECT_OPTION = "connect"; //$NON-NLS-1$
+
+	/** Default port on which the sarlc daemon is listening.
+	 *
+	 * @since 0.13
+	 */
+	public static final int DEFAULT_DAEMON_PORT = 17178;
+
 	private Constants() {
 		//
 	}
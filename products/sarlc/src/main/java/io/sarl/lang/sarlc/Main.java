@@ -21,7 +21,12 @@
 
 package io.sarl.lang.sarlc;
 
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
 import io.sarl.lang.sarlc.modules.general.SarlcApplicationModuleProvider;
+import io.sarl.lang.sarlc.tools.DaemonClient;
 import io.sarl.maven.bootiqueapp.BootiqueMain;
 import io.sarl.maven.bootiqueapp.batchcompiler.BootiqueBatchCompilerMain;
 
@@ -35,6 +40,8 @@ import io.sarl.maven.bootiqueapp.batchcompiler.BootiqueBatchCompilerMain;
  */
 public final class Main {
 
+	private static final String CONNECT_OPTION_PREFIX = "--" + Constants.CONNECT_OPTION; //$NON-NLS-1$
+
 	private Main() {
 		//
 	}
@@ -54,14 +61,54 @@ public final class Main {
 	 *
 	 * <p>This function does not stop the VM.
 	 *
+	 * <p>If the option {@code --connect} is provided, the compilation is submitted to the sarlc daemon.
+	 * The compilation is run locally if the daemon is not available or if it rejects the compilation.
+	 * A failure of the daemon during the compilation is reported as a failure of the compilation.
+	 *
 	 * @param args the command line arguments.
 	 * @return the exit code.
 	 * @see #main(String[])
 	 */
 	public static int run(String... args) {
+		final List<String> arguments = new ArrayList<>(args.length);
+		final DaemonClient client = extractDaemonClient(args, arguments);
+		if (client != null) {
+			final Integer exitCode = client.submit(new File("").getAbsolutePath(), arguments, //$NON-NLS-1$
+					System.out, System.err);
+			if (exitCode != null) {
+				return exitCode.intValue();
+			}
+			return createMainObject().runCommand(arguments.toArray(new String[arguments.size()]));
+		}
 		return createMainObject().runCommand(args);
 	}
 
+	/** Extract the client of the sarlc daemon from the command-line arguments.
+	 *
+	 * @param args the command line arguments.
+	 * @param otherArguments the arguments that are not related to the daemon client.
+	 * @return the client, or {@code null} if the option {@code --connect} is not provided.
+	 */
+	private static DaemonClient extractDaemonClient(String[] args, List<String> otherArguments) {
+		DaemonClient client = null;
+		for (final String arg : args) {
+			if (CONNECT_OPTION_PREFIX.equals(arg)) {
+				client = new DaemonClient(Constants.DEFAULT_DAEMON_PORT);
+			} else if (arg.startsWith(CONNECT_OPTION_PREFIX + "=")) { //$NON-NLS-1$
+				final String port = arg.substring(CONNECT_OPTION_PREFIX.length() + 1);
+				try {
+					client = new DaemonClient(Integer.parseInt(port));
+				} catch (NumberFormatException exception) {
+					// Let bootique reporting the invalid option value
+					otherArguments.add(arg);
+				}
+			} else {
+				otherArguments.add(arg);
+			}
+		}
+		return client;
+	}
+
 	/** Replies the default name of the program.
 	 *
 	 * @return the default name of the program.
@@ -0,0 +1,205 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2021 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.lang.sarlc.commands;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.text.MessageFormat;
+import java.util.List;
+import java.util.function.Function;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.logging.StreamHandler;
+
+import com.google.common.base.Strings;
+import io.bootique.cli.Cli;
+import io.bootique.command.CommandOutcome;
+import io.bootique.command.CommandWithMetadata;
+import io.bootique.log.BootLogger;
+import io.bootique.meta.application.CommandMetadata;
+
+import io.sarl.lang.sarlc.Constants;
+import io.sarl.lang.sarlc.configs.subconfigs.CompilerConfig;
+import io.sarl.lang.sarlc.tools.DaemonProtocol;
+import io.sarl.maven.bootiqueapp.BootiqueMain;
+import io.sarl.util.JulPatternFormatter;
+
+/**
+ * Command for running sarlc as a daemon that compiles the files on the requests of the sarlc clients.
+ *
+ * <p>The daemon keeps the virtual machine, the loaded classes of the compiler and the class loaders of the
+ * class path archives alive between the compilations. It listens on the loopback interface only, and it
+ * rejects the requests that do not contain the secret that it has stored into a file that only its owner
+ * could read.
+ * The requests are served one after the other. Each request is run with a fresh compiler configuration
+ * that is built from the command-line arguments of the client.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.13
+ */
+public class DaemonCommand extends CommandWithMetadata {
+
+	/** Name of the option for running sarlc as a daemon.
+	 */
+	public static final String DAEMON_OPTION_NAME = "daemon"; //$NON-NLS-1$
+
+	/** Name of the option for specifying the port of the daemon.
+	 */
+	public static final String DAEMON_PORT_OPTION_NAME = "daemon-port"; //$NON-NLS-1$
+
+	private static final int BACKLOG = 16;
+
+	/** Maximum duration in milliseconds of a blocking read on the socket of a client.
+	 */
+	private static final int READ_TIMEOUT = 30000;
+
+	private final BootLogger bootLogger;
+
+	private final Function<String[], Integer> compiler;
+
+	/** Constructor.
+	 *
+	 * @param bootLogger the logger.
+	 * @param compiler the function that runs the compiler with the given command-line arguments and
+	 *     replies the exit code.
+	 */
+	public DaemonCommand(BootLogger bootLogger, Function<String[], Integer> compiler) {
+		super(CommandMetadata
+				.builder(DaemonCommand.class)
+				.description(MessageFormat.format(Messages.DaemonCommand_0, Constants.CONNECT_OPTION))
+				.name(DAEMON_OPTION_NAME));
+		this.bootLogger = bootLogger;
+		this.compiler = compiler;
+	}
+
+	@Override
+	public CommandOutcome run(Cli cli) {
+		final int port;
+		final String portValue = cli.optionString(DAEMON_PORT_OPTION_NAME);
+		if (Strings.isNullOrEmpty(portValue)) {
+			port = Constants.DEFAULT_DAEMON_PORT;
+		} else {
+			try {
+				port = Integer.parseInt(portValue);
+			} catch (NumberFormatException exception) {
+				return CommandOutcome.failed(BootiqueMain.ERROR_CODE,
+						MessageFormat.format(Messages.DaemonCommand_2, portValue));
+			}
+		}
+
+		// The compilations that are run by the daemon share the class loaders of the class path archives
+		System.setProperty("bq." + CompilerConfig.SHARED_CLASS_LOADERS_NAME, Boolean.TRUE.toString()); //$NON-NLS-1$
+
+		final String workingDirectory = new File("").getAbsolutePath(); //$NON-NLS-1$
+		try (ServerSocket server = new ServerSocket(port, BACKLOG, InetAddress.getLoopbackAddress())) {
+			final File secretFile = DaemonProtocol.getSecretFile(server.getLocalPort());
+			try {
+				final byte[] secret = DaemonProtocol.createSecret(secretFile);
+				secretFile.deleteOnExit();
+				this.bootLogger.stdout(MessageFormat.format(Messages.DaemonCommand_1, Integer.toString(server.getLocalPort())));
+				while (!Thread.currentThread().isInterrupted()) {
+					try (Socket socket = server.accept()) {
+						// A client that does not send its request must not block the daemon
+						socket.setSoTimeout(READ_TIMEOUT);
+						serve(socket, secret, workingDirectory);
+					} catch (IOException | RuntimeException exception) {
+						this.bootLogger.stderr(MessageFormat.format(Messages.DaemonCommand_4, exception.getLocalizedMessage()));
+					}
+				}
+			} finally {
+				secretFile.delete();
+			}
+		} catch (IOException exception) {
+			return CommandOutcome.failed(BootiqueMain.ERROR_CODE, exception);
+		}
+		return CommandOutcome.succeeded();
+	}
+
+	private void serve(Socket socket, byte[] secret, String workingDirectory) throws IOException {
+		final DataInputStream input = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+		final DataOutputStream output = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+		final DaemonProtocol.Request request = DaemonProtocol.readRequest(input);
+		if (!request.isAuthenticated(secret)) {
+			DaemonProtocol.writeRejection(output, Messages.DaemonCommand_5);
+			return;
+		}
+		if (!workingDirectory.equals(request.getWorkingDirectory())) {
+			// The relative paths on the command line are resolved against the working directory of the daemon
+			DaemonProtocol.writeRejection(output, MessageFormat.format(Messages.DaemonCommand_3,
+					request.getWorkingDirectory(), workingDirectory));
+			return;
+		}
+		final PrintStream out = new PrintStream(new BufferedOutputStream(
+				DaemonProtocol.newFrameOutputStream(output, DaemonProtocol.STANDARD_OUTPUT_FRAME)), true);
+		final PrintStream err = new PrintStream(new BufferedOutputStream(
+				DaemonProtocol.newFrameOutputStream(output, DaemonProtocol.STANDARD_ERROR_FRAME)), true);
+		final int exitCode = runCompiler(request.getArguments(), out, err);
+		out.flush();
+		err.flush();
+		DaemonProtocol.writeExitCode(output, exitCode);
+	}
+
+	private int runCompiler(List<String> arguments, PrintStream out, PrintStream err) {
+		final PrintStream oldOut = System.out;
+		final PrintStream oldErr = System.err;
+		final Logger rootLogger = Logger.getLogger(""); //$NON-NLS-1$
+		final Handler[] oldHandlers = rootLogger.getHandlers();
+		final StreamHandler handler = new StreamHandler(err, new JulPatternFormatter(BootiqueMain.DEFAULT_LOG_FORMAT));
+		handler.setLevel(Level.ALL);
+		try {
+			System.setOut(out);
+			System.setErr(err);
+			for (final Handler oldHandler : oldHandlers) {
+				rootLogger.removeHandler(oldHandler);
+			}
+			rootLogger.addHandler(handler);
+			final Integer exitCode = this.compiler.apply(arguments.toArray(new String[arguments.size()]));
+			return exitCode == null ? BootiqueMain.ERROR_CODE : exitCode.intValue();
+		} catch (Throwable exception) {
+			exception.printStackTrace(err);
+			return BootiqueMain.ERROR_CODE;
+		} finally {
+			handler.flush();
+			for (final Handler currentHandler : rootLogger.getHandlers()) {
+				rootLogger.removeHandler(currentHandler);
+			}
+			for (final Handler oldHandler : oldHandlers) {
+				rootLogger.addHandler(oldHandler);
+			}
+			System.setOut(oldOut);
+			System.setErr(oldErr);
+		}
+	}
+
+}
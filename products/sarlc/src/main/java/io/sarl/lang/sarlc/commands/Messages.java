@@ -45,6 +45,12 @@ public class Messages extends NLS {
 	public static String CompilerCommand_8;
 	public static String CompilerCommand_9;
 	public static String CompilerCommand_10;
+	public static String DaemonCommand_0;
+	public static String DaemonCommand_1;
+	public static String DaemonCommand_2;
+	public static String DaemonCommand_3;
+	public static String DaemonCommand_4;
+	public static String DaemonCommand_5;
 	public static String ExtraLanguageListCommand_0;
 	static {
 		// initialize resource bundle
@@ -21,6 +21,7 @@
 
 package io.sarl.lang.sarlc.configs.subconfigs;
 
+import java.io.File;
 import java.nio.charset.Charset;
 
 import io.bootique.annotation.BQConfig;
@@ -115,6 +116,41 @@ public class CompilerConfig {
 	 */
 	public static final String COMPRESS_INLINE_EXPRESSIONS_NAME = PREFIX + ".compressInlineExpressions"; //$NON-NLS-1$
 
+	/**
+	 * Name of the property that indicates if the compilation stages are run in parallel.
+	 *
+	 * @since 0.13
+	 */
+	public static final String PARALLEL_COMPILATION_NAME = PREFIX + ".parallelCompilation"; //$NON-NLS-1$
+
+	/**
+	 * Name of the property that contains the number of threads for the parallel compilation.
+	 *
+	 * @since 0.13
+	 */
+	public static final String PARALLEL_THREAD_COUNT_NAME = PREFIX + ".parallelThreadCount"; //$NON-NLS-1$
+
+	/**
+	 * Name of the property that indicates if the compilation is incremental.
+	 *
+	 * @since 0.13
+	 */
+	public static final String INCREMENTAL_COMPILATION_NAME = PREFIX + ".incrementalCompilation"; //$NON-NLS-1$
+
+	/**
+	 * Name of the property that indicates if the class loaders of the class path archives are shared between compilations.
+	 *
+	 * @since 0.13
+	 */
+	public static final String SHARED_CLASS_LOADERS_NAME = PREFIX + ".sharedClassLoaders"; //$NON-NLS-1$
+
+	/**
+	 * Name of the property that contains the directory in which the indexes of the class path archives are stored.
+	 *
+	 * @since 0.13
+	 */
+	public static final String CLASSPATH_INDEX_DIRECTORY_NAME = PREFIX + ".classPathIndexDirectory"; //$NON-NLS-1$
+
 	private String fileEncoding;
 
 	private String javaVersion = SARLVersion.MINIMAL_JDK_VERSION_IN_SARL_PROJECT_CLASSPATH;
@@ -141,6 +177,117 @@ public class CompilerConfig {
 
 	private boolean compressInlineExpressions = GeneratorConfig2.DEFAULT_USE_EXPRESSION_INTERPRETER_FOR_INLINE_ANNOTATION;
 
+	private boolean parallelCompilation;
+
+	private int parallelThreadCount;
+
+	private boolean incrementalCompilation;
+
+	private boolean sharedClassLoaders;
+
+	private File classPathIndexDirectory;
+
+	/** Replies the directory in which the indexes of the class path archives are stored.
+	 *
+	 * @return the directory, or {@code null} if the archives are not indexed.
+	 * @since 0.13
+	 */
+	public File getClassPathIndexDirectory() {
+		return this.classPathIndexDirectory;
+	}
+
+	/** Change the directory in which the indexes of the class path archives are stored.
+	 *
+	 * @param directory the directory, or {@code null} if the archives are not indexed.
+	 * @since 0.13
+	 */
+	@BQConfigProperty("Directory in which the indexes of the class path archives are stored. "
+			+ "If it is not specified, the archives are not indexed")
+	public void setClassPathIndexDirectory(File directory) {
+		this.classPathIndexDirectory = directory;
+	}
+
+	/** Replies if the class loaders of the class path archives are shared between the compilations
+	 * that are run into the same virtual machine.
+	 *
+	 * @return {@code true} if the class loaders are shared.
+	 * @since 0.13
+	 */
+	public boolean getSharedClassLoaders() {
+		return this.sharedClassLoaders;
+	}
+
+	/** Change the flag that indicates if the class loaders of the class path archives are shared between the
+	 * compilations that are run into the same virtual machine.
+	 *
+	 * @param enable {@code true} if the class loaders are shared.
+	 * @since 0.13
+	 */
+	@BQConfigProperty("Enable or disable the sharing of the class loaders of the class path archives between "
+			+ "the compilations that are run by the same process")
+	public void setSharedClassLoaders(boolean enable) {
+		this.sharedClassLoaders = enable;
+	}
+
+	/** Replies if the compilation is incremental.
+	 *
+	 * @return {@code true} if only the changed files and their dependents are compiled.
+	 * @since 0.13
+	 */
+	public boolean getIncrementalCompilation() {
+		return this.incrementalCompilation;
+	}
+
+	/** Change the flag that indicates if the compilation is incremental.
+	 *
+	 * @param enable {@code true} if only the changed files and their dependents are compiled.
+	 * @since 0.13
+	 */
+	@BQConfigProperty("Enable or disable the incremental compilation, i.e. only the changed files and their "
+			+ "dependents are compiled")
+	public void setIncrementalCompilation(boolean enable) {
+		this.incrementalCompilation = enable;
+	}
+
+	/** Replies if the linking, validation and generation stages are run in parallel.
+	 *
+	 * @return {@code true} if the stages are run in parallel.
+	 * @since 0.13
+	 */
+	public boolean getParallelCompilation() {
+		return this.parallelCompilation;
+	}
+
+	/** Change the flag that indicates if the linking, validation and generation stages are run in parallel.
+	 *
+	 * @param enable {@code true} if the stages are run in parallel.
+	 * @since 0.13
+	 */
+	@BQConfigProperty("Enable or disable the parallel run of the linking, validation and generation stages")
+	public void setParallelCompilation(boolean enable) {
+		this.parallelCompilation = enable;
+	}
+
+	/** Replies the number of threads that are used for the parallel compilation.
+	 *
+	 * @return the number of threads. If it is negative or zero, the number of available processors is used.
+	 * @since 0.13
+	 */
+	public int getParallelThreadCount() {
+		return this.parallelThreadCount;
+	}
+
+	/** Change the number of threads that are used for the parallel compilation.
+	 *
+	 * @param count the number of threads. If it is negative or zero, the number of available processors is used.
+	 * @since 0.13
+	 */
+	@BQConfigProperty("Number of threads for the parallel compilation. If it is negative or zero, the number of "
+			+ "available processors is used.")
+	public void setParallelThreadCount(int count) {
+		this.parallelThreadCount = count;
+	}
+
 	/** Replies if the inline expressions should be compressed on the fly.
 	 *
 	 * @return {@code true} if the expressions are compressed.
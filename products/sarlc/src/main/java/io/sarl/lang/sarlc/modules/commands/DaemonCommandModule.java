@@ -0,0 +1,81 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2021 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.lang.sarlc.modules.commands;
+
+import static io.bootique.BQCoreModule.extend;
+
+import java.text.MessageFormat;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Provides;
+import com.google.inject.Singleton;
+import io.bootique.log.BootLogger;
+import io.bootique.meta.application.OptionMetadata;
+
+import io.sarl.lang.sarlc.Constants;
+import io.sarl.lang.sarlc.Main;
+import io.sarl.lang.sarlc.commands.DaemonCommand;
+
+/** Module for the command that runs sarlc as a daemon.
+ *
+ * <p>This module also declares the option {@code --connect}, which is used for submitting the compilation to
+ * the daemon. This option is consumed by {@link Main} before the application is started.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.13
+ */
+public class DaemonCommandModule extends AbstractModule {
+
+	@Override
+	protected void configure() {
+		extend(binder()).addCommand(DaemonCommand.class);
+
+		final String defaultPort = Integer.toString(Constants.DEFAULT_DAEMON_PORT);
+		extend(binder()).addOption(OptionMetadata.builder(
+				DaemonCommand.DAEMON_PORT_OPTION_NAME,
+				MessageFormat.format(Messages.DaemonCommandModule_0, DaemonCommand.DAEMON_OPTION_NAME, defaultPort))
+				.valueRequired(Messages.DaemonCommandModule_1)
+				.build());
+
+		extend(binder()).addOption(OptionMetadata.builder(
+				Constants.CONNECT_OPTION,
+				MessageFormat.format(Messages.DaemonCommandModule_2, defaultPort))
+				.valueOptional(Messages.DaemonCommandModule_1)
+				.build());
+	}
+
+	/** Provide the command for running sarlc as a daemon.
+	 *
+	 * @param bootLogger the logger.
+	 * @return the command.
+	 */
+	@SuppressWarnings("static-method")
+	@Provides
+	@Singleton
+	public DaemonCommand provideDaemonCommand(BootLogger bootLogger) {
+		return new DaemonCommand(bootLogger, args -> Integer.valueOf(Main.run(args)));
+	}
+
+}
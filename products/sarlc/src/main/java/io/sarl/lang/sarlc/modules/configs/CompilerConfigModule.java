@@ -22,6 +22,7 @@
 package io.sarl.lang.sarlc.modules.configs;
 
 import static io.bootique.BQCoreModule.extend;
+import static io.sarl.lang.sarlc.configs.subconfigs.CompilerConfig.CLASSPATH_INDEX_DIRECTORY_NAME;
 import static io.sarl.lang.sarlc.configs.subconfigs.CompilerConfig.COMPRESS_INLINE_EXPRESSIONS_NAME;
 import static io.sarl.lang.sarlc.configs.subconfigs.CompilerConfig.FILE_ENCODING_NAME;
 import static io.sarl.lang.sarlc.configs.subconfigs.CompilerConfig.GENERATE_CLONE_NAME;
@@ -30,10 +31,13 @@ import static io.sarl.lang.sarlc.configs.subconfigs.CompilerConfig.GENERATE_INLI
 import static io.sarl.lang.sarlc.configs.subconfigs.CompilerConfig.GENERATE_PURES_NAME;
 import static io.sarl.lang.sarlc.configs.subconfigs.CompilerConfig.GENERATE_SERIAL_IDS_NAME;
 import static io.sarl.lang.sarlc.configs.subconfigs.CompilerConfig.GENERATE_TOSTRING_NAME;
+import static io.sarl.lang.sarlc.configs.subconfigs.CompilerConfig.INCREMENTAL_COMPILATION_NAME;
 import static io.sarl.lang.sarlc.configs.subconfigs.CompilerConfig.JAVA_COMPILER_NAME;
 import static io.sarl.lang.sarlc.configs.subconfigs.CompilerConfig.JAVA_VERSION_NAME;
 import static io.sarl.lang.sarlc.configs.subconfigs.CompilerConfig.OUTPUT_STORAGES_NAME;
 import static io.sarl.lang.sarlc.configs.subconfigs.CompilerConfig.OUTPUT_TRACES_NAME;
+import static io.sarl.lang.sarlc.configs.subconfigs.CompilerConfig.PARALLEL_COMPILATION_NAME;
+import static io.sarl.lang.sarlc.configs.subconfigs.CompilerConfig.PARALLEL_THREAD_COUNT_NAME;
 
 import java.nio.charset.Charset;
 import java.text.MessageFormat;
@@ -84,6 +88,14 @@ public class CompilerConfigModule extends AbstractModule {
 
 	private static final String GENERATESERIALS_OPTION = "generate-serials"; //$NON-NLS-1$
 
+	private static final String PARALLEL_OPTION = "parallel"; //$NON-NLS-1$
+
+	private static final String PARALLEL_THREADS_OPTION = "parallel-threads"; //$NON-NLS-1$
+
+	private static final String INCREMENTAL_OPTION = "incremental"; //$NON-NLS-1$
+
+	private static final String CLASSPATH_INDEX_OPTION = "classpath-index"; //$NON-NLS-1$
+
 	@Override
 	protected void configure() {
 		VariableDecls.extend(binder()).declareVar(FILE_ENCODING_NAME);
@@ -189,6 +201,38 @@ public class CompilerConfigModule extends AbstractModule {
 				.valueOptionalWithDefault(trueFalseValues, Boolean.toString(GeneratorConfig2.DEFAULT_GENERATE_SERIAL_NUMBER_FIELD))
 				.build())
 			.mapConfigPath(GENERATESERIALS_OPTION, GENERATE_SERIAL_IDS_NAME);
+
+		VariableDecls.extend(binder()).declareVar(PARALLEL_COMPILATION_NAME);
+		extend(binder()).addOption(OptionMetadata.builder(
+				PARALLEL_OPTION,
+				MessageFormat.format(Messages.CompilerConfigModule_14, Boolean.FALSE))
+				.valueOptionalWithDefault(trueFalseValues, Boolean.TRUE.toString())
+				.build())
+			.mapConfigPath(PARALLEL_OPTION, PARALLEL_COMPILATION_NAME);
+
+		VariableDecls.extend(binder()).declareVar(PARALLEL_THREAD_COUNT_NAME);
+		extend(binder()).addOption(OptionMetadata.builder(
+				PARALLEL_THREADS_OPTION,
+				MessageFormat.format(Messages.CompilerConfigModule_15, PARALLEL_OPTION))
+				.valueRequired(Messages.CompilerConfigModule_16)
+				.build())
+			.mapConfigPath(PARALLEL_THREADS_OPTION, PARALLEL_THREAD_COUNT_NAME);
+
+		VariableDecls.extend(binder()).declareVar(INCREMENTAL_COMPILATION_NAME);
+		extend(binder()).addOption(OptionMetadata.builder(
+				INCREMENTAL_OPTION,
+				MessageFormat.format(Messages.CompilerConfigModule_17, Boolean.FALSE))
+				.valueOptionalWithDefault(trueFalseValues, Boolean.TRUE.toString())
+				.build())
+			.mapConfigPath(INCREMENTAL_OPTION, INCREMENTAL_COMPILATION_NAME);
+
+		VariableDecls.extend(binder()).declareVar(CLASSPATH_INDEX_DIRECTORY_NAME);
+		extend(binder()).addOption(OptionMetadata.builder(
+				CLASSPATH_INDEX_OPTION,
+				Messages.CompilerConfigModule_18)
+				.valueRequired(Messages.CompilerConfigModule_19)
+				.build())
+			.mapConfigPath(CLASSPATH_INDEX_OPTION, CLASSPATH_INDEX_DIRECTORY_NAME);
 	}
 
 	/** Provide a Java batch compiler based on the Bootique configuration.
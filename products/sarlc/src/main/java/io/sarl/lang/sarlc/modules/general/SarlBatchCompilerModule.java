@@ -30,6 +30,7 @@ import com.google.inject.Provider;
 import com.google.inject.Provides;
 import com.google.inject.Singleton;
 import org.eclipse.xtext.diagnostics.Severity;
+import org.eclipse.xtext.resource.SynchronizedXtextResourceSet;
 import org.eclipse.xtext.util.JavaVersion;
 import org.eclipse.xtext.util.Strings;
 
@@ -131,6 +132,17 @@ public class SarlBatchCompilerModule extends AbstractModule {
 		compiler.setGenerateCloneFunctions(compilerConfig.getGenerateClone());
 		compiler.setGenerateSerialNumberFields(compilerConfig.getGenerateSerialIds());
 
+		compiler.setIncrementalCompilation(compilerConfig.getIncrementalCompilation());
+		compiler.setClassLoaderSharing(compilerConfig.getSharedClassLoaders());
+		compiler.setClassPathIndexDirectory(compilerConfig.getClassPathIndexDirectory());
+
+		if (compilerConfig.getParallelCompilation()) {
+			compiler.setParallelCompilation(true);
+			compiler.setParallelThreadCount(compilerConfig.getParallelThreadCount());
+			// The stages are run in parallel only on a thread-safe resource set
+			compiler.setResourceSetProvider(() -> injector.getInstance(SynchronizedXtextResourceSet.class));
+		}
+
 		if (validatorConfig.getAllErrors()) {
 			compiler.setAllWarningSeverities(Severity.ERROR);
 		} else if (validatorConfig.getIgnoreWarnings()) {
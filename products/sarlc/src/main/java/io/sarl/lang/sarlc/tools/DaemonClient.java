@@ -0,0 +1,151 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2021 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.lang.sarlc.tools;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.text.MessageFormat;
+import java.util.List;
+
+import io.sarl.maven.bootiqueapp.BootiqueMain;
+
+/** Thin client that submits a compilation to the sarlc daemon.
+ *
+ * <p>The client does not load the SARL compiler. It sends the command-line arguments to the daemon
+ * that is listening on the loopback interface, and copies the outputs of the daemon to its own outputs.
+ * The request contains the secret that the daemon has stored into the file replied by
+ * {@link DaemonProtocol#getSecretFile(int)}.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.13
+ */
+public class DaemonClient {
+
+	private static final int BUFFER_SIZE = 8192;
+
+	private final int port;
+
+	/** Constructor.
+	 *
+	 * @param port the port on which the daemon is listening.
+	 */
+	public DaemonClient(int port) {
+		this.port = port;
+	}
+
+	/** Replies the port on which the daemon is listening.
+	 *
+	 * @return the port.
+	 */
+	public int getPort() {
+		return this.port;
+	}
+
+	/** Submit the compilation to the daemon.
+	 *
+	 * <p>The compilation should be run locally only if this function replies {@code null}, i.e. if the
+	 * daemon cannot be reached or if it has rejected the request. Once the daemon has accepted the request,
+	 * a failure of the communication is reported as a failure of the compilation because the daemon
+	 * may have already run a part of it.
+	 *
+	 * @param workingDirectory the working directory of the client.
+	 * @param arguments the command-line arguments of the compiler.
+	 * @param out the stream to which the standard output of the compiler is copied.
+	 * @param err the stream to which the standard error of the compiler is copied.
+	 * @return the exit code of the compiler, or {@code null} if the daemon is not available or
+	 *     if it has rejected the request. In this case the compilation should be run locally.
+	 */
+	public Integer submit(String workingDirectory, List<String> arguments, OutputStream out, PrintStream err) {
+		final Socket socket;
+		final byte[] secret;
+		try {
+			secret = DaemonProtocol.readSecret(DaemonProtocol.getSecretFile(getPort()));
+			socket = new Socket(InetAddress.getLoopbackAddress(), getPort());
+		} catch (IOException exception) {
+			err.println(MessageFormat.format(Messages.DaemonClient_0, Integer.toString(getPort()),
+					exception.getLocalizedMessage()));
+			return null;
+		}
+		try {
+			final DataOutputStream output = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+			DaemonProtocol.writeRequest(output, secret, workingDirectory, arguments);
+			final DataInputStream input = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+			final byte[] buffer = new byte[BUFFER_SIZE];
+			while (true) {
+				final byte kind = input.readByte();
+				switch (kind) {
+				case DaemonProtocol.EXIT_FRAME:
+					out.flush();
+					err.flush();
+					return Integer.valueOf(input.readInt());
+				case DaemonProtocol.REJECTION_FRAME:
+					err.println(MessageFormat.format(Messages.DaemonClient_1, input.readUTF()));
+					return null;
+				case DaemonProtocol.STANDARD_OUTPUT_FRAME:
+					copy(input, out, buffer);
+					break;
+				case DaemonProtocol.STANDARD_ERROR_FRAME:
+					copy(input, err, buffer);
+					break;
+				default:
+					throw new IOException(MessageFormat.format(Messages.DaemonClient_2, Byte.toString(kind)));
+				}
+			}
+		} catch (IOException exception) {
+			try {
+				out.flush();
+			} catch (IOException exception0) {
+				//
+			}
+			err.println(MessageFormat.format(Messages.DaemonClient_3, Integer.toString(getPort()),
+					exception.getLocalizedMessage()));
+			return Integer.valueOf(BootiqueMain.ERROR_CODE);
+		} finally {
+			try {
+				socket.close();
+			} catch (IOException exception) {
+				//
+			}
+		}
+	}
+
+	private static void copy(DataInputStream input, OutputStream output, byte[] buffer) throws IOException {
+		int remaining = input.readInt();
+		while (remaining > 0) {
+			final int length = Math.min(remaining, buffer.length);
+			input.readFully(buffer, 0, length);
+			output.write(buffer, 0, length);
+			remaining -= length;
+		}
+	}
+
+}
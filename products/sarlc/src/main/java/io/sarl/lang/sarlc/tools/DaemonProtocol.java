@@ -0,0 +1,369 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2021 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.lang.sarlc.tools;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+
+/** Protocol that is used between the sarlc daemon and the sarlc clients.
+ *
+ * <p>A request is composed of the protocol version, the secret of the daemon, the working directory of
+ * the client, and the command-line arguments of the compiler. The secret is generated by the daemon when
+ * it starts, and it is stored into a file that only the owner of the daemon could read. In this way,
+ * the other users of the host cannot submit compilations to the daemon. The daemon replies a sequence of frames. Each frame starts
+ * with its kind. The frames for the standard output and the standard error contain the length and the
+ * bytes of a chunk of the output. The last frame contains the exit code of the compiler, or the reason
+ * for which the daemon rejected the request.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.13
+ */
+public final class DaemonProtocol {
+
+	/** Version of the protocol.
+	 */
+	public static final int VERSION = 2;
+
+	/** Number of bytes in the secret of the daemon.
+	 */
+	public static final int SECRET_LENGTH = 32;
+
+	/** Maximum number of command-line arguments in a request.
+	 */
+	public static final int MAX_ARGUMENTS = 4096;
+
+	/** Maximum number of bytes in the working directory or in a command-line argument of a request.
+	 */
+	public static final int MAX_STRING_LENGTH = 1 << 20;
+
+	/** Maximum number of bytes for all the strings of a request.
+	 */
+	public static final int MAX_REQUEST_LENGTH = 1 << 23;
+
+	/** Kind of the frame that contains the exit code of the compiler.
+	 */
+	public static final byte EXIT_FRAME = 0;
+
+	/** Kind of the frame that contains a chunk of the standard output.
+	 */
+	public static final byte STANDARD_OUTPUT_FRAME = 1;
+
+	/** Kind of the frame that contains a chunk of the standard error.
+	 */
+	public static final byte STANDARD_ERROR_FRAME = 2;
+
+	/** Kind of the frame that contains the reason for which the request was rejected.
+	 */
+	public static final byte REJECTION_FRAME = 3;
+
+	private static final String SECRET_DIRECTORY_NAME = ".sarl"; //$NON-NLS-1$
+
+	private static final String SECRET_FILE_PATTERN = "sarlc-daemon-{0}.secret"; //$NON-NLS-1$
+
+	private static final String POSIX_VIEW = "posix"; //$NON-NLS-1$
+
+	private DaemonProtocol() {
+		//
+	}
+
+	/** Replies the file that contains the secret of the daemon that is listening on the given port.
+	 *
+	 * @param port the port of the daemon.
+	 * @return the file.
+	 */
+	public static File getSecretFile(int port) {
+		final File directory = new File(System.getProperty("user.home"), SECRET_DIRECTORY_NAME); //$NON-NLS-1$
+		return new File(directory, MessageFormat.format(SECRET_FILE_PATTERN, Integer.toString(port)));
+	}
+
+	/** Generate a new secret and store it into the given file.
+	 *
+	 * <p>The file is created with read and write permissions for its owner only.
+	 *
+	 * @param file the file to create.
+	 * @return the secret.
+	 * @throws IOException if the file cannot be created.
+	 */
+	public static byte[] createSecret(File file) throws IOException {
+		final byte[] secret = new byte[SECRET_LENGTH];
+		new SecureRandom().nextBytes(secret);
+		final Path path = file.toPath();
+		Files.createDirectories(path.getParent());
+		Files.deleteIfExists(path);
+		if (FileSystems.getDefault().supportedFileAttributeViews().contains(POSIX_VIEW)) {
+			Files.createFile(path, PosixFilePermissions.asFileAttribute(
+					EnumSet.of(PosixFilePermission.OWNER_READ, PosixFilePermission.OWNER_WRITE)));
+		} else {
+			Files.createFile(path);
+			file.setExecutable(false, false);
+			file.setReadable(false, false);
+			file.setReadable(true, true);
+			file.setWritable(false, false);
+			file.setWritable(true, true);
+		}
+		Files.write(path, secret);
+		return secret;
+	}
+
+	/** Read the secret of a daemon from the given file.
+	 *
+	 * @param file the file to read.
+	 * @return the secret.
+	 * @throws IOException if the file cannot be read, or if it does not contain a secret.
+	 */
+	public static byte[] readSecret(File file) throws IOException {
+		final byte[] secret = Files.readAllBytes(file.toPath());
+		if (secret.length != SECRET_LENGTH) {
+			throw new IOException(MessageFormat.format(Messages.DaemonProtocol_1, file.getAbsolutePath()));
+		}
+		return secret;
+	}
+
+	/** Write a compilation request.
+	 *
+	 * @param output the stream to write to.
+	 * @param secret the secret of the daemon.
+	 * @param workingDirectory the working directory of the client.
+	 * @param arguments the command-line arguments of the compiler.
+	 * @throws IOException if the request cannot be written.
+	 */
+	public static void writeRequest(DataOutputStream output, byte[] secret, String workingDirectory,
+			List<String> arguments) throws IOException {
+		output.writeInt(VERSION);
+		output.write(secret, 0, SECRET_LENGTH);
+		writeString(output, workingDirectory);
+		output.writeInt(arguments.size());
+		for (final String argument : arguments) {
+			writeString(output, argument);
+		}
+		output.flush();
+	}
+
+	private static void writeString(DataOutputStream output, String value) throws IOException {
+		final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		output.writeInt(bytes.length);
+		output.write(bytes);
+	}
+
+	/** Read a compilation request.
+	 *
+	 * <p>The sizes that are read from the stream are checked against {@link #MAX_ARGUMENTS},
+	 * {@link #MAX_STRING_LENGTH} and {@link #MAX_REQUEST_LENGTH} before any allocation.
+	 *
+	 * @param input the stream to read from.
+	 * @return the request.
+	 * @throws IOException if the request cannot be read, if the version of the protocol is not supported,
+	 *     or if the request is too large.
+	 */
+	public static Request readRequest(DataInputStream input) throws IOException {
+		final int version = input.readInt();
+		if (version != VERSION) {
+			throw new IOException(MessageFormat.format(Messages.DaemonProtocol_0, Integer.toString(version)));
+		}
+		final byte[] secret = new byte[SECRET_LENGTH];
+		input.readFully(secret);
+		final int[] remaining = {MAX_REQUEST_LENGTH};
+		final String workingDirectory = readString(input, remaining);
+		final int count = input.readInt();
+		if (count < 0 || count > MAX_ARGUMENTS) {
+			throw new IOException(MessageFormat.format(Messages.DaemonProtocol_2, Integer.toString(count),
+					Integer.toString(MAX_ARGUMENTS)));
+		}
+		final List<String> arguments = new ArrayList<>(count);
+		for (int i = 0; i < count; ++i) {
+			arguments.add(readString(input, remaining));
+		}
+		return new Request(secret, workingDirectory, arguments);
+	}
+
+	private static String readString(DataInputStream input, int[] remaining) throws IOException {
+		final int length = input.readInt();
+		final int max = Math.min(MAX_STRING_LENGTH, remaining[0]);
+		if (length < 0 || length > max) {
+			throw new IOException(MessageFormat.format(Messages.DaemonProtocol_3, Integer.toString(length),
+					Integer.toString(max)));
+		}
+		remaining[0] -= length;
+		final byte[] bytes = new byte[length];
+		input.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/** Write the frame that contains the exit code of the compiler.
+	 *
+	 * @param output the stream to write to.
+	 * @param exitCode the exit code.
+	 * @throws IOException if the frame cannot be written.
+	 */
+	public static void writeExitCode(DataOutputStream output, int exitCode) throws IOException {
+		synchronized (output) {
+			output.writeByte(EXIT_FRAME);
+			output.writeInt(exitCode);
+			output.flush();
+		}
+	}
+
+	/** Write the frame that contains the reason for which the request was rejected.
+	 *
+	 * @param output the stream to write to.
+	 * @param reason the reason of the rejection.
+	 * @throws IOException if the frame cannot be written.
+	 */
+	public static void writeRejection(DataOutputStream output, String reason) throws IOException {
+		synchronized (output) {
+			output.writeByte(REJECTION_FRAME);
+			output.writeUTF(reason);
+			output.flush();
+		}
+	}
+
+	/** Create an output stream that writes its content as frames of the given kind.
+	 *
+	 * @param output the stream to write to.
+	 * @param kind the kind of the frames, either {@link #STANDARD_OUTPUT_FRAME} or {@link #STANDARD_ERROR_FRAME}.
+	 * @return the stream.
+	 */
+	public static OutputStream newFrameOutputStream(DataOutputStream output, byte kind) {
+		return new FrameOutputStream(output, kind);
+	}
+
+	/** Compilation request.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 0.13
+	 */
+	public static final class Request {
+
+		private final byte[] secret;
+
+		private final String workingDirectory;
+
+		private final List<String> arguments;
+
+		/** Constructor.
+		 *
+		 * @param secret the secret that was provided by the client.
+		 * @param workingDirectory the working directory of the client.
+		 * @param arguments the command-line arguments of the compiler.
+		 */
+		public Request(byte[] secret, String workingDirectory, List<String> arguments) {
+			this.secret = secret.clone();
+			this.workingDirectory = workingDirectory;
+			this.arguments = Collections.unmodifiableList(arguments);
+		}
+
+		/** Replies if the request was sent with the given secret.
+		 *
+		 * <p>The comparison takes the same time whatever the position of the first difference.
+		 *
+		 * @param expectedSecret the secret of the daemon.
+		 * @return {@code true} if the request contains the secret of the daemon.
+		 */
+		public boolean isAuthenticated(byte[] expectedSecret) {
+			return MessageDigest.isEqual(this.secret, expectedSecret);
+		}
+
+		/** Replies the working directory of the client.
+		 *
+		 * @return the working directory.
+		 */
+		public String getWorkingDirectory() {
+			return this.workingDirectory;
+		}
+
+		/** Replies the command-line arguments of the compiler.
+		 *
+		 * @return the arguments.
+		 */
+		public List<String> getArguments() {
+			return this.arguments;
+		}
+
+	}
+
+	/** Output stream that writes frames.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 0.13
+	 */
+	private static final class FrameOutputStream extends OutputStream {
+
+		private final DataOutputStream output;
+
+		private final byte kind;
+
+		FrameOutputStream(DataOutputStream output, byte kind) {
+			this.output = output;
+			this.kind = kind;
+		}
+
+		@Override
+		public void write(int value) throws IOException {
+			write(new byte[] {(byte) value}, 0, 1);
+		}
+
+		@Override
+		public void write(byte[] buffer, int offset, int length) throws IOException {
+			if (length > 0) {
+				synchronized (this.output) {
+					this.output.writeByte(this.kind);
+					this.output.writeInt(length);
+					this.output.write(buffer, offset, length);
+				}
+			}
+		}
+
+		@Override
+		public void flush() throws IOException {
+			synchronized (this.output) {
+				this.output.flush();
+			}
+		}
+
+	}
+
+}
@@ -37,6 +37,14 @@ public class Messages extends NLS {
 	public static String ClassPathUtils_0;
 	public static String ClassPathUtils_1;
 	public static String ClassPathUtils_2;
+	public static String DaemonClient_0;
+	public static String DaemonClient_1;
+	public static String DaemonClient_2;
+	public static String DaemonClient_3;
+	public static String DaemonProtocol_0;
+	public static String DaemonProtocol_1;
+	public static String DaemonProtocol_2;
+	public static String DaemonProtocol_3;
 	public static String SarlEmbededSdkClasspathProvider_0;
 	public static String SarlEmbededSdkClasspathProvider_1;
 	public static String SarlEmbededSdkClasspathProvider_2;
@@ -0,0 +1,615 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2021 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.sre.network.services;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import io.sarl.lang.core.Address;
+import io.sarl.lang.core.Event;
+import io.sarl.lang.core.Scope;
+import io.sarl.lang.core.SpaceID;
+import io.sarl.sre.network.services.HazelcastEventTransportService.TopicMessage;
+import io.sarl.sre.spaces.IdentifierScope;
+
+/**
+ * Codec of the events that is writing a compact binary representation of the events.
+ *
+ * <p>The source address of the event is written as a list of UUIDs. The fields of the event are
+ * written one after the other when all of them have a type that is directly supported by the codec,
+ * i.e. a primitive type, a wrapper of primitive type, {@link String}, {@link UUID} or an enumeration.
+ * As for the Java serialization, the received events are created without invoking their constructors,
+ * and their transient fields are not transferred. The events with a field of another type, or with
+ * specific serialization functions, e.g. {@code writeObject}, are written with the standard Java
+ * serialization. The scopes of type {@link IdentifierScope} are written as lists of UUIDs;
+ * the other scopes are written with the standard Java serialization.
+ *
+ * <p>The layout of each event type is computed at the first use of this event type and cached.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.13
+ */
+public class BinaryEventCodec implements EventCodec {
+
+	private static final byte FORMAT_VERSION = 1;
+
+	private static final byte PAYLOAD_FIELDS = 0;
+
+	private static final byte PAYLOAD_SERIALIZATION = 1;
+
+	private static final byte SCOPE_NONE = 0;
+
+	private static final byte SCOPE_IDENTIFIERS = 1;
+
+	private static final byte SCOPE_SERIALIZATION = 2;
+
+	private static final ClassValue<EventLayout> LAYOUTS = new ClassValue<EventLayout>() {
+		@Override
+		protected EventLayout computeValue(Class<?> type) {
+			return EventLayout.create(type.asSubclass(Event.class));
+		}
+	};
+
+	private final ConcurrentMap<String, Class<? extends Event>> eventTypes = new ConcurrentHashMap<>();
+
+	@Override
+	public byte[] encode(Event event, Scope<? super Address> scope) throws IOException {
+		assert event != null;
+		final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		try (DataOutputStream output = new DataOutputStream(buffer)) {
+			output.writeByte(FORMAT_VERSION);
+			output.writeUTF(event.getClass().getName());
+			writeAddress(output, event.getSource());
+			final EventLayout layout = LAYOUTS.get(event.getClass());
+			if (layout.isSupported()) {
+				output.writeByte(PAYLOAD_FIELDS);
+				layout.write(output, event);
+			} else {
+				output.writeByte(PAYLOAD_SERIALIZATION);
+				writeSerializable(output, event);
+			}
+			writeScope(output, scope);
+		}
+		return buffer.toByteArray();
+	}
+
+	@Override
+	public TopicMessage decode(byte[] data) throws IOException {
+		try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(data))) {
+			final byte version = input.readByte();
+			if (version != FORMAT_VERSION) {
+				throw new IOException("unsupported format version: " + version); //$NON-NLS-1$
+			}
+			final Class<? extends Event> eventType = getEventType(input.readUTF());
+			final Address source = readAddress(input);
+			final Event event;
+			if (input.readByte() == PAYLOAD_FIELDS) {
+				event = LAYOUTS.get(eventType).read(input);
+			} else {
+				event = eventType.cast(readSerializable(input));
+			}
+			event.setSource(source);
+			return new TopicMessage(event, readScope(input));
+		}
+	}
+
+	private Class<? extends Event> getEventType(String name) throws IOException {
+		Class<? extends Event> type = this.eventTypes.get(name);
+		if (type == null) {
+			try {
+				type = Class.forName(name, true, SerializationEventCodec.getClassLoader()).asSubclass(Event.class);
+			} catch (ClassNotFoundException | ClassCastException exception) {
+				throw new IOException(exception);
+			}
+			this.eventTypes.putIfAbsent(name, type);
+		}
+		return type;
+	}
+
+	private static void writeUUID(DataOutputStream output, UUID id) throws IOException {
+		output.writeLong(id.getMostSignificantBits());
+		output.writeLong(id.getLeastSignificantBits());
+	}
+
+	private static UUID readUUID(DataInputStream input) throws IOException {
+		final long msb = input.readLong();
+		final long lsb = input.readLong();
+		return new UUID(msb, lsb);
+	}
+
+	private static void writeAddress(DataOutputStream output, Address address) throws IOException {
+		if (address == null) {
+			output.writeBoolean(false);
+		} else {
+			output.writeBoolean(true);
+			final SpaceID spaceID = address.getSpaceID();
+			writeUUID(output, spaceID.getContextID());
+			writeUUID(output, spaceID.getID());
+			writeUUID(output, address.getID());
+		}
+	}
+
+	private static Address readAddress(DataInputStream input) throws IOException {
+		if (!input.readBoolean()) {
+			return null;
+		}
+		final UUID contextID = readUUID(input);
+		final UUID spaceID = readUUID(input);
+		final UUID participantID = readUUID(input);
+		// The space specification is transient in the Java serialization of the space identifiers.
+		return new Address(new SpaceID(contextID, spaceID, null), participantID);
+	}
+
+	private static void writeSerializable(DataOutputStream output, Object object) throws IOException {
+		final byte[] data = SerializationEventCodec.serialize(object);
+		output.writeInt(data.length);
+		output.write(data);
+	}
+
+	private static Object readSerializable(DataInputStream input) throws IOException {
+		final byte[] data = new byte[input.readInt()];
+		input.readFully(data);
+		return SerializationEventCodec.deserialize(data, 0, data.length);
+	}
+
+	private static void writeScope(DataOutputStream output, Scope<? super Address> scope) throws IOException {
+		if (scope == null) {
+			output.writeByte(SCOPE_NONE);
+		} else if (scope instanceof IdentifierScope) {
+			output.writeByte(SCOPE_IDENTIFIERS);
+			final Set<UUID> identifiers = ((IdentifierScope) scope).getIdentifiers();
+			output.writeInt(identifiers.size());
+			for (final UUID identifier : identifiers) {
+				writeUUID(output, identifier);
+			}
+		} else {
+			output.writeByte(SCOPE_SERIALIZATION);
+			writeSerializable(output, scope);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Scope<? super Address> readScope(DataInputStream input) throws IOException {
+		switch (input.readByte()) {
+		case SCOPE_NONE:
+			return null;
+		case SCOPE_IDENTIFIERS: {
+			final UUID[] identifiers = new UUID[input.readInt()];
+			for (int i = 0; i < identifiers.length; ++i) {
+				identifiers[i] = readUUID(input);
+			}
+			return IdentifierScope.forIdentifiers(identifiers);
+		}
+		case SCOPE_SERIALIZATION:
+			return (Scope<? super Address>) readSerializable(input);
+		default:
+			throw new IOException("unsupported type of scope"); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Type of the values that are directly written by the codec.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 0.13
+	 */
+	private enum ValueType {
+
+		BOOLEAN, BYTE, SHORT, CHAR, INT, LONG, FLOAT, DOUBLE,
+		BOOLEAN_OBJECT, BYTE_OBJECT, SHORT_OBJECT, CHAR_OBJECT, INT_OBJECT, LONG_OBJECT, FLOAT_OBJECT, DOUBLE_OBJECT,
+		STRING, UUID, ENUM;
+
+		/** Replies the value type that corresponds to the given Java type.
+		 *
+		 * @param type the Java type.
+		 * @return the value type, or {@code null} if the type is not supported.
+		 */
+		static ValueType of(Class<?> type) {
+			if (type.isPrimitive()) {
+				return ofPrimitive(type);
+			}
+			if (type.isEnum()) {
+				return ENUM;
+			}
+			if (String.class.equals(type)) {
+				return STRING;
+			}
+			if (java.util.UUID.class.equals(type)) {
+				return UUID;
+			}
+			return ofWrapper(type);
+		}
+
+		private static ValueType ofPrimitive(Class<?> type) {
+			if (boolean.class.equals(type)) {
+				return BOOLEAN;
+			}
+			if (byte.class.equals(type)) {
+				return BYTE;
+			}
+			if (short.class.equals(type)) {
+				return SHORT;
+			}
+			if (char.class.equals(type)) {
+				return CHAR;
+			}
+			if (int.class.equals(type)) {
+				return INT;
+			}
+			if (long.class.equals(type)) {
+				return LONG;
+			}
+			if (float.class.equals(type)) {
+				return FLOAT;
+			}
+			if (double.class.equals(type)) {
+				return DOUBLE;
+			}
+			return null;
+		}
+
+		private static ValueType ofWrapper(Class<?> type) {
+			if (Boolean.class.equals(type)) {
+				return BOOLEAN_OBJECT;
+			}
+			if (Byte.class.equals(type)) {
+				return BYTE_OBJECT;
+			}
+			if (Short.class.equals(type)) {
+				return SHORT_OBJECT;
+			}
+			if (Character.class.equals(type)) {
+				return CHAR_OBJECT;
+			}
+			if (Integer.class.equals(type)) {
+				return INT_OBJECT;
+			}
+			if (Long.class.equals(type)) {
+				return LONG_OBJECT;
+			}
+			if (Float.class.equals(type)) {
+				return FLOAT_OBJECT;
+			}
+			if (Double.class.equals(type)) {
+				return DOUBLE_OBJECT;
+			}
+			return null;
+		}
+
+	}
+
+	/**
+	 * Description of the fields of an event type.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 0.13
+	 */
+	private static final class EventLayout {
+
+		private final Constructor<? extends Event> constructor;
+
+		private final Field[] fields;
+
+		private final ValueType[] types;
+
+		private EventLayout(Constructor<? extends Event> constructor, Field[] fields, ValueType[] types) {
+			this.constructor = constructor;
+			this.fields = fields;
+			this.types = types;
+		}
+
+		/** Build the layout of the given event type.
+		 *
+		 * @param type the event type.
+		 * @return the layout.
+		 */
+		static EventLayout create(Class<? extends Event> type) {
+			final List<Class<?>> hierarchy = new ArrayList<>();
+			Class<?> current = type;
+			while (current != null && !Event.class.equals(current)) {
+				if (hasSerializationFunction(current)) {
+					return new EventLayout(null, null, null);
+				}
+				hierarchy.add(0, current);
+				current = current.getSuperclass();
+			}
+			final Constructor<? extends Event> constructor = getSerializationConstructor(type);
+			if (constructor == null) {
+				return new EventLayout(null, null, null);
+			}
+			final List<Field> fields = new ArrayList<>();
+			final List<ValueType> types = new ArrayList<>();
+			for (final Class<?> declaringType : hierarchy) {
+				final Field[] declaredFields = declaringType.getDeclaredFields();
+				// Sort the fields by name in order to obtain the same layout on all the nodes
+				Arrays.sort(declaredFields, Comparator.comparing(Field::getName));
+				for (final Field field : declaredFields) {
+					final int modifiers = field.getModifiers();
+					if (!Modifier.isStatic(modifiers) && !Modifier.isTransient(modifiers) && !field.isSynthetic()) {
+						final ValueType valueType = ValueType.of(field.getType());
+						if (valueType == null) {
+							return new EventLayout(null, null, null);
+						}
+						try {
+							field.setAccessible(true);
+						} catch (Throwable exception) {
+							return new EventLayout(null, null, null);
+						}
+						fields.add(field);
+						types.add(valueType);
+					}
+				}
+			}
+			return new EventLayout(constructor,
+					fields.toArray(new Field[fields.size()]),
+					types.toArray(new ValueType[types.size()]));
+		}
+
+		private static boolean hasSerializationFunction(Class<?> type) {
+			for (final Method method : type.getDeclaredMethods()) {
+				if (!Modifier.isStatic(method.getModifiers())) {
+					switch (method.getName()) {
+					case "writeObject": //$NON-NLS-1$
+					case "readObject": //$NON-NLS-1$
+					case "readObjectNoData": //$NON-NLS-1$
+					case "writeReplace": //$NON-NLS-1$
+					case "readResolve": //$NON-NLS-1$
+						return true;
+					default:
+					}
+				}
+			}
+			return false;
+		}
+
+		/** Replies the constructor that is used by the Java serialization for creating the instances of the
+		 * given type without invoking the constructors of this type.
+		 *
+		 * <p>The internal reflection factory of the JRE is used. If it is not available, the
+		 * events of the given type are written with the Java serialization.
+		 *
+		 * @param type the event type.
+		 * @return the constructor, or {@code null} if it cannot be created.
+		 */
+		@SuppressWarnings("unchecked")
+		private static Constructor<? extends Event> getSerializationConstructor(Class<? extends Event> type) {
+			try {
+				final Class<?> factoryType = Class.forName("sun.reflect.ReflectionFactory"); //$NON-NLS-1$
+				final Object factory = factoryType.getMethod("getReflectionFactory").invoke(null); //$NON-NLS-1$
+				final Method creator = factoryType.getMethod("newConstructorForSerialization", //$NON-NLS-1$
+						Class.class, Constructor.class);
+				final Constructor<? extends Event> constructor = (Constructor<? extends Event>) creator.invoke(
+						factory, type, Object.class.getDeclaredConstructor());
+				constructor.setAccessible(true);
+				return constructor;
+			} catch (Throwable exception) {
+				return null;
+			}
+		}
+
+		/** Replies if the event type could be written field by field.
+		 *
+		 * @return {@code true} if the fields could be written.
+		 */
+		boolean isSupported() {
+			return this.constructor != null;
+		}
+
+		/** Write the fields of the given event.
+		 *
+		 * @param output the output stream.
+		 * @param event the event to write.
+		 * @throws IOException if the event cannot be written.
+		 */
+		void write(DataOutputStream output, Event event) throws IOException {
+			try {
+				for (int i = 0; i < this.fields.length; ++i) {
+					writeValue(output, this.types[i], this.fields[i].get(event));
+				}
+			} catch (IllegalAccessException exception) {
+				throw new IOException(exception);
+			}
+		}
+
+		/** Read an event.
+		 *
+		 * @param input the input stream.
+		 * @return the event.
+		 * @throws IOException if the event cannot be read.
+		 */
+		Event read(DataInputStream input) throws IOException {
+			try {
+				final Event event = this.constructor.newInstance();
+				for (int i = 0; i < this.fields.length; ++i) {
+					final Field field = this.fields[i];
+					field.set(event, readValue(input, this.types[i], field.getType()));
+				}
+				return event;
+			} catch (IOException exception) {
+				throw exception;
+			} catch (Exception exception) {
+				throw new IOException(exception);
+			}
+		}
+
+		private static void writeValue(DataOutputStream output, ValueType type, Object value) throws IOException {
+			switch (type) {
+			case BOOLEAN:
+				output.writeBoolean(((Boolean) value).booleanValue());
+				break;
+			case BYTE:
+				output.writeByte(((Byte) value).byteValue());
+				break;
+			case SHORT:
+				output.writeShort(((Short) value).shortValue());
+				break;
+			case CHAR:
+				output.writeChar(((Character) value).charValue());
+				break;
+			case INT:
+				output.writeInt(((Integer) value).intValue());
+				break;
+			case LONG:
+				output.writeLong(((Long) value).longValue());
+				break;
+			case FLOAT:
+				output.writeFloat(((Float) value).floatValue());
+				break;
+			case DOUBLE:
+				output.writeDouble(((Double) value).doubleValue());
+				break;
+			default:
+				if (value == null) {
+					output.writeBoolean(false);
+				} else {
+					output.writeBoolean(true);
+					writeObjectValue(output, type, value);
+				}
+				break;
+			}
+		}
+
+		private static void writeObjectValue(DataOutputStream output, ValueType type, Object value) throws IOException {
+			switch (type) {
+			case BOOLEAN_OBJECT:
+				writeValue(output, ValueType.BOOLEAN, value);
+				break;
+			case BYTE_OBJECT:
+				writeValue(output, ValueType.BYTE, value);
+				break;
+			case SHORT_OBJECT:
+				writeValue(output, ValueType.SHORT, value);
+				break;
+			case CHAR_OBJECT:
+				writeValue(output, ValueType.CHAR, value);
+				break;
+			case INT_OBJECT:
+				writeValue(output, ValueType.INT, value);
+				break;
+			case LONG_OBJECT:
+				writeValue(output, ValueType.LONG, value);
+				break;
+			case FLOAT_OBJECT:
+				writeValue(output, ValueType.FLOAT, value);
+				break;
+			case DOUBLE_OBJECT:
+				writeValue(output, ValueType.DOUBLE, value);
+				break;
+			case STRING:
+				// DataOutput.writeUTF() is not used because it is limited to 64Ko
+				final byte[] bytes = ((String) value).getBytes(StandardCharsets.UTF_8);
+				output.writeInt(bytes.length);
+				output.write(bytes);
+				break;
+			case UUID:
+				writeUUID(output, (UUID) value);
+				break;
+			case ENUM:
+				output.writeUTF(((Enum<?>) value).name());
+				break;
+			default:
+				throw new IOException("unsupported type of value: " + type); //$NON-NLS-1$
+			}
+		}
+
+		@SuppressWarnings({"unchecked", "rawtypes"})
+		private static Object readValue(DataInputStream input, ValueType type, Class<?> javaType) throws IOException {
+			switch (type) {
+			case BOOLEAN:
+				return Boolean.valueOf(input.readBoolean());
+			case BYTE:
+				return Byte.valueOf(input.readByte());
+			case SHORT:
+				return Short.valueOf(input.readShort());
+			case CHAR:
+				return Character.valueOf(input.readChar());
+			case INT:
+				return Integer.valueOf(input.readInt());
+			case LONG:
+				return Long.valueOf(input.readLong());
+			case FLOAT:
+				return Float.valueOf(input.readFloat());
+			case DOUBLE:
+				return Double.valueOf(input.readDouble());
+			default:
+				if (!input.readBoolean()) {
+					return null;
+				}
+				switch (type) {
+				case BOOLEAN_OBJECT:
+					return readValue(input, ValueType.BOOLEAN, javaType);
+				case BYTE_OBJECT:
+					return readValue(input, ValueType.BYTE, javaType);
+				case SHORT_OBJECT:
+					return readValue(input, ValueType.SHORT, javaType);
+				case CHAR_OBJECT:
+					return readValue(input, ValueType.CHAR, javaType);
+				case INT_OBJECT:
+					return readValue(input, ValueType.INT, javaType);
+				case LONG_OBJECT:
+					return readValue(input, ValueType.LONG, javaType);
+				case FLOAT_OBJECT:
+					return readValue(input, ValueType.FLOAT, javaType);
+				case DOUBLE_OBJECT:
+					return readValue(input, ValueType.DOUBLE, javaType);
+				case STRING:
+					final byte[] bytes = new byte[input.readInt()];
+					input.readFully(bytes);
+					return new String(bytes, StandardCharsets.UTF_8);
+				case UUID:
+					return readUUID(input);
+				case ENUM:
+					return Enum.valueOf((Class<? extends Enum>) javaType, input.readUTF());
+				default:
+					throw new IOException("unsupported type of value: " + type); //$NON-NLS-1$
+				}
+			}
+		}
+
+	}
+
+}
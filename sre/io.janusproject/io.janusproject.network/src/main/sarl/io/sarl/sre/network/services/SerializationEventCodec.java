@@ -0,0 +1,130 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2021 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.sre.network.services;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+
+import io.sarl.lang.core.Address;
+import io.sarl.lang.core.Event;
+import io.sarl.lang.core.Scope;
+import io.sarl.sre.network.services.HazelcastEventTransportService.TopicMessage;
+
+/**
+ * Codec of the events that is based on the standard Java serialization.
+ *
+ * <p>This codec writes the {@link TopicMessage} envelope, i.e. the event and its scope, with an
+ * {@link ObjectOutputStream}. It is the codec that was used before the introduction of the
+ * {@link BinaryEventCodec}.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.13
+ */
+public class SerializationEventCodec implements EventCodec {
+
+	@Override
+	public byte[] encode(Event event, Scope<? super Address> scope) throws IOException {
+		return serialize(new TopicMessage(event, scope));
+	}
+
+	@Override
+	public TopicMessage decode(byte[] data) throws IOException {
+		return (TopicMessage) deserialize(data, 0, data.length);
+	}
+
+	/** Serialize the given object with the standard Java serialization.
+	 *
+	 * @param object the object to serialize.
+	 * @return the serialized object.
+	 * @throws IOException if the object cannot be serialized.
+	 */
+	static byte[] serialize(Object object) throws IOException {
+		final ByteArrayOutputStream output = new ByteArrayOutputStream();
+		try (ObjectOutputStream stream = new ObjectOutputStream(output)) {
+			stream.writeObject(object);
+		}
+		return output.toByteArray();
+	}
+
+	/** Deserialize an object with the standard Java serialization.
+	 *
+	 * @param data the buffer that contains the serialized object.
+	 * @param offset the index of the first byte of the serialized object in the buffer.
+	 * @param length the number of bytes of the serialized object.
+	 * @return the deserialized object.
+	 * @throws IOException if the object cannot be deserialized.
+	 */
+	static Object deserialize(byte[] data, int offset, int length) throws IOException {
+		try (ObjectInputStream stream = new ClassLoaderObjectInputStream(new ByteArrayInputStream(data, offset, length))) {
+			return stream.readObject();
+		} catch (ClassNotFoundException exception) {
+			throw new IOException(exception);
+		}
+	}
+
+	/** Replies the class loader that must be used for loading the classes of the received events.
+	 *
+	 * @return the class loader.
+	 */
+	static ClassLoader getClassLoader() {
+		final ClassLoader loader = Thread.currentThread().getContextClassLoader();
+		if (loader != null) {
+			return loader;
+		}
+		return SerializationEventCodec.class.getClassLoader();
+	}
+
+	/**
+	 * Input stream that is loading the classes with the class loader of the codecs.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 0.13
+	 */
+	private static class ClassLoaderObjectInputStream extends ObjectInputStream {
+
+		ClassLoaderObjectInputStream(InputStream input) throws IOException {
+			super(input);
+		}
+
+		@Override
+		protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+			try {
+				return Class.forName(desc.getName(), false, getClassLoader());
+			} catch (ClassNotFoundException exception) {
+				return super.resolveClass(desc);
+			}
+		}
+
+	}
+
+}
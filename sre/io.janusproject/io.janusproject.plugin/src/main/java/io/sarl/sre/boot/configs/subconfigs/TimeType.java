@@ -0,0 +1,119 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2021 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.sre.boot.configs.subconfigs;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.google.common.base.Strings;
+
+/**
+ * Type of the time that is used by the SRE for the agents and their scheduled tasks.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.13
+ */
+public enum TimeType {
+
+	/** The time is the operating system time. The scheduled tasks wait in wall-clock time.
+	 */
+	OPERATING_SYSTEM,
+
+	/** The time is simulated. When the SRE is idle, the time jumps to the time of the next
+	 * scheduled task. The scheduled tasks that are due at the same time are run in parallel.
+	 */
+	SIMULATED,
+
+	/** The time is simulated. When the SRE is idle, the time jumps to the time of the next
+	 * scheduled task. The scheduled tasks are run one after the other by a single thread,
+	 * in the order of their due times and of their submissions.
+	 */
+	STEPPED;
+
+	/** Parse the given case insensitive string for obtaining the type.
+	 *
+	 * @param name the string to parse.
+	 * @return the type.
+	 * @throws NullPointerException when the specified name is null
+	 */
+	@JsonCreator
+	public static TimeType valueOfCaseInsensitive(String name) {
+		if (Strings.isNullOrEmpty(name)) {
+			throw new NullPointerException("name is null"); //$NON-NLS-1$
+		}
+		try {
+			final TimeType type = valueOf(name.toUpperCase());
+			if (type != null) {
+				return type;
+			}
+		} catch (Throwable exception) {
+			//
+		}
+		throw new IllegalArgumentException("illegal value for name: " + name); //$NON-NLS-1$
+	}
+
+	/** Replies the Json string representation of this type.
+	 *
+	 * @return the Json string representation.
+	 */
+	@JsonValue
+	public String toJsonString() {
+		return name().toLowerCase();
+	}
+
+	/** Replies if this type of time is simulated.
+	 *
+	 * @return {@code true} if the time is simulated.
+	 */
+	public boolean isSimulated() {
+		return this != OPERATING_SYSTEM;
+	}
+
+	/** Replies the default type of time.
+	 *
+	 * @return the default type.
+	 */
+	public static TimeType getDefault() {
+		return OPERATING_SYSTEM;
+	}
+
+	/** Replies the Json labels for the types of time.
+	 *
+	 * @return the labels.
+	 */
+	public static String getJsonLabels() {
+		final StringBuilder buffer = new StringBuilder();
+		boolean first = true;
+		for (final TimeType type : values()) {
+			if (first) {
+				first = false;
+			} else {
+				buffer.append(", "); //$NON-NLS-1$
+			}
+			buffer.append(type.toJsonString());
+		}
+		return buffer.toString();
+	}
+
+}
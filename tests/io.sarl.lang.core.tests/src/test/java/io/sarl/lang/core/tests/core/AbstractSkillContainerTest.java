@@ -28,12 +28,23 @@ import static io.sarl.tests.api.tools.TestReflections.invokeProc;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.security.InvalidParameterException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.xtext.xbase.lib.util.ToStringBuilder;
@@ -433,6 +444,50 @@ public class AbstractSkillContainerTest extends AbstractSarlTest {
 		assertSame(ref0, ref1);
 	}
 
+	@Test
+	public void getSkill_defaultskill_clearedReference() throws Exception {
+		AtomicSkillReference ref0 = this.container.$getSkill(Capacity3.class);
+		assertNotNull(ref0);
+		Skill s0 = ref0.clear();
+		assertNotNull(s0);
+		//
+		AtomicSkillReference ref1 = this.container.$getSkill(Capacity3.class);
+		assertNotNull(ref1);
+		assertNotSame(ref0, ref1);
+		Skill s1 = ref1.get();
+		assertInstanceOf(Skill5.class, s1);
+		assertNotSame(s0, s1);
+	}
+
+	@Test
+	public void getSkill_defaultskill_concurrentAccess() throws Exception {
+		final int nbThreads = 8;
+		final ExecutorService executor = Executors.newFixedThreadPool(nbThreads);
+		try {
+			final CountDownLatch start = new CountDownLatch(1);
+			final List<Future<Set<AtomicSkillReference>>> results = new ArrayList<>();
+			for (int i = 0; i < nbThreads; ++i) {
+				results.add(executor.submit(() -> {
+					final Set<AtomicSkillReference> refs = Collections.newSetFromMap(new IdentityHashMap<>());
+					start.await();
+					for (int j = 0; j < 1000; ++j) {
+						refs.add(this.container.$getSkill(Capacity3.class));
+					}
+					return refs;
+				}));
+			}
+			start.countDown();
+			final Set<AtomicSkillReference> allRefs = Collections.newSetFromMap(new IdentityHashMap<>());
+			for (final Future<Set<AtomicSkillReference>> result : results) {
+				allRefs.addAll(result.get(10, TimeUnit.SECONDS));
+			}
+			assertEquals(1, allRefs.size());
+			assertInstanceOf(Skill5.class, allRefs.iterator().next().get());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
 	@Test
 	public void getSkill_noRegistration() throws Exception {
 		assertException(UnimplementedCapacityException.class, () -> {
@@ -0,0 +1,162 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2021 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sarl.lang.core.tests.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.sarl.lang.core.BehaviorGuardEvaluatorTable;
+import io.sarl.lang.core.Event;
+import io.sarl.tests.api.AbstractSarlTest;
+
+/**
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.13
+ */
+@SuppressWarnings("all")
+@DisplayName("BehaviorGuardEvaluatorTable")
+@Tag("unit")
+@Tag("core")
+public class BehaviorGuardEvaluatorTableTest extends AbstractSarlTest {
+
+	private BehaviorGuardEvaluatorTable<Receiver> table;
+
+	private Receiver receiver;
+
+	private List<Runnable> callbacks;
+
+	@BeforeEach
+	public void setUp() {
+		this.receiver = new Receiver();
+		this.callbacks = new ArrayList<>();
+		this.table = BehaviorGuardEvaluatorTable.create(Receiver.class)
+			.add(E1.class, (receiver, event, callbacks) -> receiver.evaluateE1((E1) event, callbacks))
+			.add(E2.class, (receiver, event, callbacks) -> receiver.evaluateE2((E2) event, callbacks))
+			.add(E1.class, (receiver, event, callbacks) -> receiver.evaluateE1bis((E1) event, callbacks));
+	}
+
+	@Test
+	public void isSupportedEvent() {
+		assertTrue(this.table.isSupportedEvent(E1.class));
+		assertTrue(this.table.isSupportedEvent(E2.class));
+		assertTrue(this.table.isSupportedEvent(E3.class));
+		assertFalse(this.table.isSupportedEvent(E4.class));
+		assertFalse(this.table.isSupportedEvent(Event.class));
+		assertFalse(this.table.isSupportedEvent(null));
+	}
+
+	@Test
+	public void evaluate_nullEvent() {
+		this.table.evaluate(this.receiver, null, this.callbacks);
+		assertEquals(Collections.emptyList(), this.receiver.trace);
+		assertEquals(0, this.callbacks.size());
+	}
+
+	@Test
+	public void evaluate_unsupportedEvent() {
+		this.table.evaluate(this.receiver, new E4(), this.callbacks);
+		assertEquals(Collections.emptyList(), this.receiver.trace);
+		assertEquals(0, this.callbacks.size());
+	}
+
+	@Test
+	public void evaluate_E1() {
+		this.table.evaluate(this.receiver, new E1(), this.callbacks);
+		assertEquals(Arrays.asList("E1", "E1bis"), this.receiver.trace);
+		assertEquals(2, this.callbacks.size());
+	}
+
+	@Test
+	public void evaluate_E2() {
+		this.table.evaluate(this.receiver, new E2(), this.callbacks);
+		assertEquals(Arrays.asList("E2"), this.receiver.trace);
+		assertEquals(1, this.callbacks.size());
+	}
+
+	@Test
+	public void evaluate_E3() {
+		this.table.evaluate(this.receiver, new E3(), this.callbacks);
+		assertEquals(Arrays.asList("E1", "E1bis"), this.receiver.trace);
+		assertEquals(2, this.callbacks.size());
+	}
+
+	@Test
+	public void evaluate_cachedDispatch() {
+		this.table.evaluate(this.receiver, new E3(), this.callbacks);
+		this.table.evaluate(this.receiver, new E1(), this.callbacks);
+		this.table.evaluate(this.receiver, new E3(), this.callbacks);
+		assertEquals(Arrays.asList("E1", "E1bis", "E1", "E1bis", "E1", "E1bis"), this.receiver.trace);
+		assertEquals(6, this.callbacks.size());
+	}
+
+	private static class Receiver {
+
+		final List<String> trace = new ArrayList<>();
+
+		void evaluateE1(E1 occurrence, Collection<Runnable> callbacks) {
+			this.trace.add("E1");
+			callbacks.add(() -> { });
+		}
+
+		void evaluateE1bis(E1 occurrence, Collection<Runnable> callbacks) {
+			this.trace.add("E1bis");
+			callbacks.add(() -> { });
+		}
+
+		void evaluateE2(E2 occurrence, Collection<Runnable> callbacks) {
+			this.trace.add("E2");
+			callbacks.add(() -> { });
+		}
+
+	}
+
+	private static class E1 extends Event {
+		//
+	}
+
+	private static class E2 extends Event {
+		//
+	}
+
+	private static class E3 extends E1 {
+		//
+	}
+
+	private static class E4 extends Event {
+		//
+	}
+
+}
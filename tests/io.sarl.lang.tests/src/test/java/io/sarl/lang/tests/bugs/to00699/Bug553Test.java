@@ -60,11 +60,13 @@ public class Bug553Test extends AbstractSarlTest {
 	private static final String EXPECTED = multilineString(
 			"package io.sarl.lang.tests.bug553;",
 			"",
+			"import io.sarl.lang.annotation.InlinableGuardEvaluator;",
 			"import io.sarl.lang.annotation.PerceptGuardEvaluator;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
 			"import io.sarl.lang.core.Agent;",
+			"import io.sarl.lang.core.BehaviorGuardEvaluatorTable;",
 			"import io.sarl.lang.core.DynamicSkillProvider;",
 			"import io.sarl.lang.core.Event;",
 			"import io.sarl.lang.scoping.extensions.time.TimeExtensions;",
@@ -84,6 +86,7 @@ public class Bug553Test extends AbstractSarlTest {
 			"  ",
 			"  @SyntheticMember",
 			"  @PerceptGuardEvaluator",
+			"  @InlinableGuardEvaluator",
 			"  private void $guardEvaluator$MyEvent(final MyEvent occurrence, final Collection<Runnable> ___SARLlocal_runnableCollection) {",
 			"    assert occurrence != null;",
 			"    assert ___SARLlocal_runnableCollection != null;",
@@ -91,6 +94,10 @@ public class Bug553Test extends AbstractSarlTest {
 			"  }",
 			"  ",
 			"  @SyntheticMember",
+			"  private static final BehaviorGuardEvaluatorTable<TestAgent> $GUARD_EVALUATOR_TABLE = BehaviorGuardEvaluatorTable.create(TestAgent.class)",
+			"    .add(MyEvent.class, (receiver, event, callbacks) -> receiver.$guardEvaluator$MyEvent((MyEvent) event, callbacks));",
+			"  ",
+			"  @SyntheticMember",
 			"  @Override",
 			"  public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
 			"    super.$getSupportedEvents(toBeFilled);",
@@ -100,20 +107,14 @@ public class Bug553Test extends AbstractSarlTest {
 			"  @SyntheticMember",
 			"  @Override",
 			"  public boolean $isSupportedEvent(final Class<? extends Event> event) {", 
-			"    if (MyEvent.class.isAssignableFrom(event)) {",
-			"      return true;",
-			"    }",
-			"    return false;", 
+			"    return $GUARD_EVALUATOR_TABLE.isSupportedEvent(event);",
 			"  }",
 			"  ",
 			"  @SyntheticMember",
 			"  @Override",
 			"  public void $evaluateBehaviorGuards(final Object event, final Collection<Runnable> callbacks) {",
 			"    super.$evaluateBehaviorGuards(event, callbacks);",
-			"    if (event instanceof MyEvent) {",
-			"      final MyEvent occurrence = (MyEvent) event;",
-			"      $guardEvaluator$MyEvent(occurrence, callbacks);",
-			"    }",
+			"    $GUARD_EVALUATOR_TABLE.evaluate(this, event, callbacks);",
 			"  }",
 			"  ",
 			"  @SyntheticMember",
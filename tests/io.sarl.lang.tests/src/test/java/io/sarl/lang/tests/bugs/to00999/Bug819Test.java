@@ -79,6 +79,7 @@ public class Bug819Test extends AbstractSarlTest {
 			"import io.sarl.core.Lifecycle;",
 			"import io.sarl.core.Logging;",
 			"import io.sarl.lang.annotation.ImportedCapacityFeature;",
+			"import io.sarl.lang.annotation.InlinableGuardEvaluator;",
 			"import io.sarl.lang.annotation.PerceptGuardEvaluator;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
@@ -86,6 +87,7 @@ public class Bug819Test extends AbstractSarlTest {
 			"import io.sarl.lang.core.Address;",
 			"import io.sarl.lang.core.Agent;",
 			"import io.sarl.lang.core.AtomicSkillReference;",
+			"import io.sarl.lang.core.BehaviorGuardEvaluatorTable;",
 			"import io.sarl.lang.core.DynamicSkillProvider;",
 			"import io.sarl.lang.core.Event;",
 			"import io.sarl.lang.core.Scope;",
@@ -180,6 +182,7 @@ public class Bug819Test extends AbstractSarlTest {
 			"  ",
 			"  @SyntheticMember",
 			"  @PerceptGuardEvaluator",
+			"  @InlinableGuardEvaluator",
 			"  private void $guardEvaluator$Initialize(final Initialize occurrence, final Collection<Runnable> ___SARLlocal_runnableCollection) {",
 			"    assert occurrence != null;",
 			"    assert ___SARLlocal_runnableCollection != null;",
@@ -187,6 +190,10 @@ public class Bug819Test extends AbstractSarlTest {
 			"  }",
 			"  ",
 			"  @SyntheticMember",
+			"  private static final BehaviorGuardEvaluatorTable<Agent3> $GUARD_EVALUATOR_TABLE = BehaviorGuardEvaluatorTable.create(Agent3.class)",
+			"    .add(Initialize.class, (receiver, event, callbacks) -> receiver.$guardEvaluator$Initialize((Initialize) event, callbacks));",
+			"  ",
+			"  @SyntheticMember",
 			"  @Override",
 			"  public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
 			"    super.$getSupportedEvents(toBeFilled);",
@@ -196,20 +203,14 @@ public class Bug819Test extends AbstractSarlTest {
 			"  @SyntheticMember",
 			"  @Override",
 			"  public boolean $isSupportedEvent(final Class<? extends Event> event) {", 
-			"    if (Initialize.class.isAssignableFrom(event)) {",
-			"      return true;",
-			"    }",
-			"    return false;", 
+			"    return $GUARD_EVALUATOR_TABLE.isSupportedEvent(event);",
 			"  }",
 			"  ",
 			"  @SyntheticMember",
 			"  @Override",
 			"  public void $evaluateBehaviorGuards(final Object event, final Collection<Runnable> callbacks) {",
 			"    super.$evaluateBehaviorGuards(event, callbacks);",
-			"    if (event instanceof Initialize) {",
-			"      final Initialize occurrence = (Initialize) event;",
-			"      $guardEvaluator$Initialize(occurrence, callbacks);",
-			"    }",
+			"    $GUARD_EVALUATOR_TABLE.evaluate(this, event, callbacks);",
 			"  }",
 			"  ",
 			"  @SyntheticMember",
@@ -66,11 +66,13 @@ public class Bug846Test extends AbstractSarlTest {
 			"package io.sarl.lang.tests.bug846;",
 			"",
 			"import io.sarl.core.Initialize;",
+			"import io.sarl.lang.annotation.InlinableGuardEvaluator;",
 			"import io.sarl.lang.annotation.PerceptGuardEvaluator;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
 			"import io.sarl.lang.core.Agent;",
+			"import io.sarl.lang.core.BehaviorGuardEvaluatorTable;",
 			"import io.sarl.lang.core.DynamicSkillProvider;",
 			"import io.sarl.lang.core.Event;",
 			"import java.util.Collection;",
@@ -88,6 +90,7 @@ public class Bug846Test extends AbstractSarlTest {
 			"  ",
 			"  @SyntheticMember",
 			"  @PerceptGuardEvaluator",
+			"  @InlinableGuardEvaluator",
 			"  private void $guardEvaluator$Initialize(final Initialize occurrence, final Collection<Runnable> ___SARLlocal_runnableCollection) {",
 			"    assert occurrence != null;",
 			"    assert ___SARLlocal_runnableCollection != null;",
@@ -95,6 +98,10 @@ public class Bug846Test extends AbstractSarlTest {
 			"  }",
 			"  ",
 			"  @SyntheticMember",
+			"  private static final BehaviorGuardEvaluatorTable<SomeAgent> $GUARD_EVALUATOR_TABLE = BehaviorGuardEvaluatorTable.create(SomeAgent.class)",
+			"    .add(Initialize.class, (receiver, event, callbacks) -> receiver.$guardEvaluator$Initialize((Initialize) event, callbacks));",
+			"  ",
+			"  @SyntheticMember",
 			"  @Override",
 			"  public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
 			"    super.$getSupportedEvents(toBeFilled);",
@@ -104,20 +111,14 @@ public class Bug846Test extends AbstractSarlTest {
 			"  @SyntheticMember",
 			"  @Override",
 			"  public boolean $isSupportedEvent(final Class<? extends Event> event) {", 
-			"    if (Initialize.class.isAssignableFrom(event)) {",
-			"      return true;",
-			"    }",
-			"    return false;", 
+			"    return $GUARD_EVALUATOR_TABLE.isSupportedEvent(event);",
 			"  }",
 			"  ",
 			"  @SyntheticMember",
 			"  @Override",
 			"  public void $evaluateBehaviorGuards(final Object event, final Collection<Runnable> callbacks) {",
 			"    super.$evaluateBehaviorGuards(event, callbacks);",
-			"    if (event instanceof Initialize) {",
-			"      final Initialize occurrence = (Initialize) event;",
-			"      $guardEvaluator$Initialize(occurrence, callbacks);",
-			"    }",
+			"    $GUARD_EVALUATOR_TABLE.evaluate(this, event, callbacks);",
 			"  }",
 			"  ",
 			"  @SyntheticMember",
@@ -146,11 +147,13 @@ public class Bug846Test extends AbstractSarlTest {
 			"package io.sarl.lang.tests.bug846;",
 			"",
 			"import io.sarl.core.Initialize;",
+			"import io.sarl.lang.annotation.InlinableGuardEvaluator;",
 			"import io.sarl.lang.annotation.PerceptGuardEvaluator;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
 			"import io.sarl.lang.core.Agent;",
+			"import io.sarl.lang.core.BehaviorGuardEvaluatorTable;",
 			"import io.sarl.lang.core.DynamicSkillProvider;",
 			"import io.sarl.lang.core.Event;",
 			"import java.util.Collection;",
@@ -169,6 +172,7 @@ public class Bug846Test extends AbstractSarlTest {
 			"  ",
 			"  @SyntheticMember",
 			"  @PerceptGuardEvaluator",
+			"  @InlinableGuardEvaluator",
 			"  private void $guardEvaluator$Initialize(final Initialize occurrence, final Collection<Runnable> ___SARLlocal_runnableCollection) {",
 			"    assert occurrence != null;",
 			"    assert ___SARLlocal_runnableCollection != null;",
@@ -176,6 +180,10 @@ public class Bug846Test extends AbstractSarlTest {
 			"  }",
 			"  ",
 			"  @SyntheticMember",
+			"  private static final BehaviorGuardEvaluatorTable<SomeAgent> $GUARD_EVALUATOR_TABLE = BehaviorGuardEvaluatorTable.create(SomeAgent.class)",
+			"    .add(Initialize.class, (receiver, event, callbacks) -> receiver.$guardEvaluator$Initialize((Initialize) event, callbacks));",
+			"  ",
+			"  @SyntheticMember",
 			"  @Override",
 			"  public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
 			"    super.$getSupportedEvents(toBeFilled);",
@@ -185,20 +193,14 @@ public class Bug846Test extends AbstractSarlTest {
 			"  @SyntheticMember",
 			"  @Override",
 			"  public boolean $isSupportedEvent(final Class<? extends Event> event) {", 
-			"    if (Initialize.class.isAssignableFrom(event)) {",
-			"      return true;",
-			"    }",
-			"    return false;", 
+			"    return $GUARD_EVALUATOR_TABLE.isSupportedEvent(event);",
 			"  }",
 			"  ",
 			"  @SyntheticMember",
 			"  @Override",
 			"  public void $evaluateBehaviorGuards(final Object event, final Collection<Runnable> callbacks) {",
 			"    super.$evaluateBehaviorGuards(event, callbacks);",
-			"    if (event instanceof Initialize) {",
-			"      final Initialize occurrence = (Initialize) event;",
-			"      $guardEvaluator$Initialize(occurrence, callbacks);",
-			"    }",
+			"    $GUARD_EVALUATOR_TABLE.evaluate(this, event, callbacks);",
 			"  }",
 			"  ",
 			"  @SyntheticMember",
@@ -227,11 +229,13 @@ public class Bug846Test extends AbstractSarlTest {
 			"package io.sarl.lang.tests.bug846;",
 			"",
 			"import io.sarl.core.Initialize;",
+			"import io.sarl.lang.annotation.InlinableGuardEvaluator;",
 			"import io.sarl.lang.annotation.PerceptGuardEvaluator;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
 			"import io.sarl.lang.core.Agent;",
+			"import io.sarl.lang.core.BehaviorGuardEvaluatorTable;",
 			"import io.sarl.lang.core.DynamicSkillProvider;",
 			"import io.sarl.lang.core.Event;",
 			"import java.util.Collection;",
@@ -249,6 +253,7 @@ public class Bug846Test extends AbstractSarlTest {
 			"  ",
 			"  @SyntheticMember",
 			"  @PerceptGuardEvaluator",
+			"  @InlinableGuardEvaluator",
 			"  private void $guardEvaluator$Initialize(final Initialize occurrence, final Collection<Runnable> ___SARLlocal_runnableCollection) {",
 			"    assert occurrence != null;",
 			"    assert ___SARLlocal_runnableCollection != null;",
@@ -256,6 +261,10 @@ public class Bug846Test extends AbstractSarlTest {
 			"  }",
 			"  ",
 			"  @SyntheticMember",
+			"  private static final BehaviorGuardEvaluatorTable<SomeAgent> $GUARD_EVALUATOR_TABLE = BehaviorGuardEvaluatorTable.create(SomeAgent.class)",
+			"    .add(Initialize.class, (receiver, event, callbacks) -> receiver.$guardEvaluator$Initialize((Initialize) event, callbacks));",
+			"  ",
+			"  @SyntheticMember",
 			"  @Override",
 			"  public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
 			"    super.$getSupportedEvents(toBeFilled);",
@@ -265,20 +274,14 @@ public class Bug846Test extends AbstractSarlTest {
 			"  @SyntheticMember",
 			"  @Override",
 			"  public boolean $isSupportedEvent(final Class<? extends Event> event) {", 
-			"    if (Initialize.class.isAssignableFrom(event)) {",
-			"      return true;",
-			"    }",
-			"    return false;", 
+			"    return $GUARD_EVALUATOR_TABLE.isSupportedEvent(event);",
 			"  }",
 			"  ",
 			"  @SyntheticMember",
 			"  @Override",
 			"  public void $evaluateBehaviorGuards(final Object event, final Collection<Runnable> callbacks) {",
 			"    super.$evaluateBehaviorGuards(event, callbacks);",
-			"    if (event instanceof Initialize) {",
-			"      final Initialize occurrence = (Initialize) event;",
-			"      $guardEvaluator$Initialize(occurrence, callbacks);",
-			"    }",
+			"    $GUARD_EVALUATOR_TABLE.evaluate(this, event, callbacks);",
 			"  }",
 			"  ",
 			"  @SyntheticMember",
@@ -69,12 +69,14 @@ public class Bug847Test extends AbstractSarlTest {
 			"import io.sarl.core.AgentSpawned;",
 			"import io.sarl.core.Logging;",
 			"import io.sarl.lang.annotation.ImportedCapacityFeature;",
+			"import io.sarl.lang.annotation.InlinableGuardEvaluator;",
 			"import io.sarl.lang.annotation.PerceptGuardEvaluator;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
 			"import io.sarl.lang.core.Agent;",
 			"import io.sarl.lang.core.AtomicSkillReference;",
+			"import io.sarl.lang.core.BehaviorGuardEvaluatorTable;",
 			"import io.sarl.lang.core.DynamicSkillProvider;",
 			"import io.sarl.lang.core.Event;",
 			"import java.util.Collection;",
@@ -110,6 +112,7 @@ public class Bug847Test extends AbstractSarlTest {
 			"  ",
 			"  @SyntheticMember",
 			"  @PerceptGuardEvaluator",
+			"  @InlinableGuardEvaluator",
 			"  private void $guardEvaluator$AgentSpawned(final AgentSpawned occurrence, final Collection<Runnable> ___SARLlocal_runnableCollection) {",
 			"    assert occurrence != null;",
 			"    assert ___SARLlocal_runnableCollection != null;",
@@ -117,6 +120,10 @@ public class Bug847Test extends AbstractSarlTest {
 			"  }",
 			"  ",
 			"  @SyntheticMember",
+			"  private static final BehaviorGuardEvaluatorTable<SomeAgent> $GUARD_EVALUATOR_TABLE = BehaviorGuardEvaluatorTable.create(SomeAgent.class)",
+			"    .add(AgentSpawned.class, (receiver, event, callbacks) -> receiver.$guardEvaluator$AgentSpawned((AgentSpawned) event, callbacks));",
+			"  ",
+			"  @SyntheticMember",
 			"  @Override",
 			"  public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
 			"    super.$getSupportedEvents(toBeFilled);",
@@ -126,20 +133,14 @@ public class Bug847Test extends AbstractSarlTest {
 			"  @SyntheticMember",
 			"  @Override",
 			"  public boolean $isSupportedEvent(final Class<? extends Event> event) {", 
-			"    if (AgentSpawned.class.isAssignableFrom(event)) {",
-			"      return true;",
-			"    }",
-			"    return false;", 
+			"    return $GUARD_EVALUATOR_TABLE.isSupportedEvent(event);",
 			"  }",
 			"  ",
 			"  @SyntheticMember",
 			"  @Override",
 			"  public void $evaluateBehaviorGuards(final Object event, final Collection<Runnable> callbacks) {",
 			"    super.$evaluateBehaviorGuards(event, callbacks);",
-			"    if (event instanceof AgentSpawned) {",
-			"      final AgentSpawned occurrence = (AgentSpawned) event;",
-			"      $guardEvaluator$AgentSpawned(occurrence, callbacks);",
-			"    }",
+			"    $GUARD_EVALUATOR_TABLE.evaluate(this, event, callbacks);",
 			"  }",
 			"  ",
 			"  @SyntheticMember",
@@ -192,12 +193,14 @@ public class Bug847Test extends AbstractSarlTest {
 			"import io.sarl.core.AgentSpawned;",
 			"import io.sarl.core.Logging;",
 			"import io.sarl.lang.annotation.ImportedCapacityFeature;",
+			"import io.sarl.lang.annotation.InlinableGuardEvaluator;",
 			"import io.sarl.lang.annotation.PerceptGuardEvaluator;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
 			"import io.sarl.lang.core.Agent;",
 			"import io.sarl.lang.core.AtomicSkillReference;",
+			"import io.sarl.lang.core.BehaviorGuardEvaluatorTable;",
 			"import io.sarl.lang.core.DynamicSkillProvider;",
 			"import io.sarl.lang.core.Event;",
 			"import java.util.Collection;",
@@ -234,6 +237,7 @@ public class Bug847Test extends AbstractSarlTest {
 			"  ",
 			"  @SyntheticMember",
 			"  @PerceptGuardEvaluator",
+			"  @InlinableGuardEvaluator",
 			"  private void $guardEvaluator$AgentSpawned(final AgentSpawned occurrence, final Collection<Runnable> ___SARLlocal_runnableCollection) {",
 			"    assert occurrence != null;",
 			"    assert ___SARLlocal_runnableCollection != null;",
@@ -241,6 +245,10 @@ public class Bug847Test extends AbstractSarlTest {
 			"  }",
 			"  ",
 			"  @SyntheticMember",
+			"  private static final BehaviorGuardEvaluatorTable<SomeAgent> $GUARD_EVALUATOR_TABLE = BehaviorGuardEvaluatorTable.create(SomeAgent.class)",
+			"    .add(AgentSpawned.class, (receiver, event, callbacks) -> receiver.$guardEvaluator$AgentSpawned((AgentSpawned) event, callbacks));",
+			"  ",
+			"  @SyntheticMember",
 			"  @Override",
 			"  public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
 			"    super.$getSupportedEvents(toBeFilled);",
@@ -250,20 +258,14 @@ public class Bug847Test extends AbstractSarlTest {
 			"  @SyntheticMember",
 			"  @Override",
 			"  public boolean $isSupportedEvent(final Class<? extends Event> event) {", 
-			"    if (AgentSpawned.class.isAssignableFrom(event)) {",
-			"      return true;",
-			"    }",
-			"    return false;", 
+			"    return $GUARD_EVALUATOR_TABLE.isSupportedEvent(event);",
 			"  }",
 			"  ",
 			"  @SyntheticMember",
 			"  @Override",
 			"  public void $evaluateBehaviorGuards(final Object event, final Collection<Runnable> callbacks) {",
 			"    super.$evaluateBehaviorGuards(event, callbacks);",
-			"    if (event instanceof AgentSpawned) {",
-			"      final AgentSpawned occurrence = (AgentSpawned) event;",
-			"      $guardEvaluator$AgentSpawned(occurrence, callbacks);",
-			"    }",
+			"    $GUARD_EVALUATOR_TABLE.evaluate(this, event, callbacks);",
 			"  }",
 			"  ",
 			"  @SyntheticMember",
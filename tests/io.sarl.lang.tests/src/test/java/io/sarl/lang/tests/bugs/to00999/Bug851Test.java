@@ -74,11 +74,13 @@ public class Bug851Test extends AbstractSarlTest {
 	private static final String EXPECTED01 = multilineString(
 			"package io.sarl.lang.tests.bug851;",
 			"",
+			"import io.sarl.lang.annotation.InlinableGuardEvaluator;",
 			"import io.sarl.lang.annotation.PerceptGuardEvaluator;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
 			"import io.sarl.lang.core.Agent;",
+			"import io.sarl.lang.core.BehaviorGuardEvaluatorTable;",
 			"import io.sarl.lang.core.DynamicSkillProvider;",
 			"import io.sarl.lang.core.Event;",
 			"import io.sarl.lang.tests.bug851.Body;",
@@ -103,6 +105,7 @@ public class Bug851Test extends AbstractSarlTest {
 			"  ",
 			"  @SyntheticMember",
 			"  @PerceptGuardEvaluator",
+			"  @InlinableGuardEvaluator",
 			"  private void $guardEvaluator$CarArrivedPercept(final CarArrivedPercept occurrence, final Collection<Runnable> ___SARLlocal_runnableCollection) {",
 			"    assert occurrence != null;",
 			"    assert ___SARLlocal_runnableCollection != null;",
@@ -110,6 +113,10 @@ public class Bug851Test extends AbstractSarlTest {
 			"  }",
 			"  ",
 			"  @SyntheticMember",
+			"  private static final BehaviorGuardEvaluatorTable<SomeAgent> $GUARD_EVALUATOR_TABLE = BehaviorGuardEvaluatorTable.create(SomeAgent.class)",
+			"    .add(CarArrivedPercept.class, (receiver, event, callbacks) -> receiver.$guardEvaluator$CarArrivedPercept((CarArrivedPercept) event, callbacks));",
+			"  ",
+			"  @SyntheticMember",
 			"  @Override",
 			"  public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
 			"    super.$getSupportedEvents(toBeFilled);",
@@ -119,20 +126,14 @@ public class Bug851Test extends AbstractSarlTest {
 			"  @SyntheticMember",
 			"  @Override",
 			"  public boolean $isSupportedEvent(final Class<? extends Event> event) {", 
-			"    if (CarArrivedPercept.class.isAssignableFrom(event)) {",
-			"      return true;",
-			"    }",
-			"    return false;", 
+			"    return $GUARD_EVALUATOR_TABLE.isSupportedEvent(event);",
 			"  }",
 			"  ",
 			"  @SyntheticMember",
 			"  @Override",
 			"  public void $evaluateBehaviorGuards(final Object event, final Collection<Runnable> callbacks) {",
 			"    super.$evaluateBehaviorGuards(event, callbacks);",
-			"    if (event instanceof CarArrivedPercept) {",
-			"      final CarArrivedPercept occurrence = (CarArrivedPercept) event;",
-			"      $guardEvaluator$CarArrivedPercept(occurrence, callbacks);",
-			"    }",
+			"    $GUARD_EVALUATOR_TABLE.evaluate(this, event, callbacks);",
 			"  }",
 			"  ",
 			"  @Override",
@@ -185,11 +186,13 @@ public class Bug851Test extends AbstractSarlTest {
 	private static final String EXPECTED02 = multilineString(
 			"package io.sarl.lang.tests.bug851;",
 			"",
+			"import io.sarl.lang.annotation.InlinableGuardEvaluator;",
 			"import io.sarl.lang.annotation.PerceptGuardEvaluator;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
 			"import io.sarl.lang.core.Agent;",
+			"import io.sarl.lang.core.BehaviorGuardEvaluatorTable;",
 			"import io.sarl.lang.core.DynamicSkillProvider;",
 			"import io.sarl.lang.core.Event;",
 			"import io.sarl.lang.tests.bug851.Body;",
@@ -219,6 +222,7 @@ public class Bug851Test extends AbstractSarlTest {
 			"  ",
 			"  @SyntheticMember",
 			"  @PerceptGuardEvaluator",
+			"  @InlinableGuardEvaluator",
 			"  private void $guardEvaluator$CarArrivedPercept(final CarArrivedPercept occurrence, final Collection<Runnable> ___SARLlocal_runnableCollection) {",
 			"    assert occurrence != null;",
 			"    assert ___SARLlocal_runnableCollection != null;",
@@ -226,6 +230,10 @@ public class Bug851Test extends AbstractSarlTest {
 			"  }",
 			"  ",
 			"  @SyntheticMember",
+			"  private static final BehaviorGuardEvaluatorTable<SomeAgent> $GUARD_EVALUATOR_TABLE = BehaviorGuardEvaluatorTable.create(SomeAgent.class)",
+			"    .add(CarArrivedPercept.class, (receiver, event, callbacks) -> receiver.$guardEvaluator$CarArrivedPercept((CarArrivedPercept) event, callbacks));",
+			"  ",
+			"  @SyntheticMember",
 			"  @Override",
 			"  public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
 			"    super.$getSupportedEvents(toBeFilled);",
@@ -235,20 +243,14 @@ public class Bug851Test extends AbstractSarlTest {
 			"  @SyntheticMember",
 			"  @Override",
 			"  public boolean $isSupportedEvent(final Class<? extends Event> event) {", 
-			"    if (CarArrivedPercept.class.isAssignableFrom(event)) {",
-			"      return true;",
-			"    }",
-			"    return false;", 
+			"    return $GUARD_EVALUATOR_TABLE.isSupportedEvent(event);",
 			"  }",
 			"  ",
 			"  @SyntheticMember",
 			"  @Override",
 			"  public void $evaluateBehaviorGuards(final Object event, final Collection<Runnable> callbacks) {",
 			"    super.$evaluateBehaviorGuards(event, callbacks);",
-			"    if (event instanceof CarArrivedPercept) {",
-			"      final CarArrivedPercept occurrence = (CarArrivedPercept) event;",
-			"      $guardEvaluator$CarArrivedPercept(occurrence, callbacks);",
-			"    }",
+			"    $GUARD_EVALUATOR_TABLE.evaluate(this, event, callbacks);",
 			"  }",
 			"  ",
 			"  @Override",
@@ -71,12 +71,14 @@ public class Bug861Test extends AbstractSarlTest {
 		"import io.sarl.core.Lifecycle;",
 		"import io.sarl.core.Logging;",
 		"import io.sarl.lang.annotation.ImportedCapacityFeature;",
+		"import io.sarl.lang.annotation.InlinableGuardEvaluator;",
 		"import io.sarl.lang.annotation.PerceptGuardEvaluator;",
 		"import io.sarl.lang.annotation.SarlElementType;",
 		"import io.sarl.lang.annotation.SarlSpecification;",
 		"import io.sarl.lang.annotation.SyntheticMember;",
 		"import io.sarl.lang.core.Agent;",
 		"import io.sarl.lang.core.AtomicSkillReference;",
+		"import io.sarl.lang.core.BehaviorGuardEvaluatorTable;",
 		"import io.sarl.lang.core.DynamicSkillProvider;",
 		"import io.sarl.lang.core.Event;",
 		"import io.sarl.lang.tests.bug861.CommitSuicide;",
@@ -157,6 +159,7 @@ public class Bug861Test extends AbstractSarlTest {
 		"  ",
 		"  @SyntheticMember",
 		"  @PerceptGuardEvaluator",
+		"  @InlinableGuardEvaluator",
 		"  private void $guardEvaluator$Initialize(final Initialize occurrence, final Collection<Runnable> ___SARLlocal_runnableCollection) {",
 		"    assert occurrence != null;",
 		"    assert ___SARLlocal_runnableCollection != null;",
@@ -165,6 +168,7 @@ public class Bug861Test extends AbstractSarlTest {
 		"  ",
 		"  @SyntheticMember",
 		"  @PerceptGuardEvaluator",
+		"  @InlinableGuardEvaluator",
 		"  private void $guardEvaluator$CommitSuicide(final CommitSuicide occurrence, final Collection<Runnable> ___SARLlocal_runnableCollection) {",
 		"    assert occurrence != null;",
 		"    assert ___SARLlocal_runnableCollection != null;",
@@ -173,6 +177,7 @@ public class Bug861Test extends AbstractSarlTest {
 		"  ",
 		"  @SyntheticMember",
 		"  @PerceptGuardEvaluator",
+		"  @InlinableGuardEvaluator",
 		"  private void $guardEvaluator$Initialized(final Initialized occurrence, final Collection<Runnable> ___SARLlocal_runnableCollection) {",
 		"    assert occurrence != null;",
 		"    assert ___SARLlocal_runnableCollection != null;",
@@ -180,6 +185,12 @@ public class Bug861Test extends AbstractSarlTest {
 		"  }",
 		"  ",
 		"  @SyntheticMember",
+		"  private static final BehaviorGuardEvaluatorTable<BootAgent> $GUARD_EVALUATOR_TABLE = BehaviorGuardEvaluatorTable.create(BootAgent.class)",
+		"    .add(Initialize.class, (receiver, event, callbacks) -> receiver.$guardEvaluator$Initialize((Initialize) event, callbacks))",
+		"    .add(CommitSuicide.class, (receiver, event, callbacks) -> receiver.$guardEvaluator$CommitSuicide((CommitSuicide) event, callbacks))",
+		"    .add(Initialized.class, (receiver, event, callbacks) -> receiver.$guardEvaluator$Initialized((Initialized) event, callbacks));",
+		"  ",
+		"  @SyntheticMember",
 		"  @Override",
 		"  public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
 		"    super.$getSupportedEvents(toBeFilled);",
@@ -191,34 +202,14 @@ public class Bug861Test extends AbstractSarlTest {
 		"  @SyntheticMember",
 		"  @Override",
 		"  public boolean $isSupportedEvent(final Class<? extends Event> event) {", 
-		"    if (Initialize.class.isAssignableFrom(event)) {",
-		"      return true;",
-		"    }",
-		"    if (CommitSuicide.class.isAssignableFrom(event)) {",
-		"      return true;",
-		"    }",
-		"    if (Initialized.class.isAssignableFrom(event)) {",
-		"      return true;",
-		"    }",
-		"    return false;", 
+		"    return $GUARD_EVALUATOR_TABLE.isSupportedEvent(event);",
 		"  }",
 		"  ",
 		"  @SyntheticMember",
 		"  @Override",
 		"  public void $evaluateBehaviorGuards(final Object event, final Collection<Runnable> callbacks) {",
 		"    super.$evaluateBehaviorGuards(event, callbacks);",
-		"    if (event instanceof Initialize) {",
-		"      final Initialize occurrence = (Initialize) event;",
-		"      $guardEvaluator$Initialize(occurrence, callbacks);",
-		"    }",
-		"    if (event instanceof CommitSuicide) {",
-		"      final CommitSuicide occurrence = (CommitSuicide) event;",
-		"      $guardEvaluator$CommitSuicide(occurrence, callbacks);",
-		"    }",
-		"    if (event instanceof Initialized) {",
-		"      final Initialized occurrence = (Initialized) event;",
-		"      $guardEvaluator$Initialized(occurrence, callbacks);",
-		"    }",
+		"    $GUARD_EVALUATOR_TABLE.evaluate(this, event, callbacks);",
 		"  }",
 		"  ",
 		"  @SyntheticMember",
@@ -243,6 +234,7 @@ public class Bug861Test extends AbstractSarlTest {
 		"import io.sarl.core.Lifecycle;",
 		"import io.sarl.core.Logging;",
 		"import io.sarl.lang.annotation.ImportedCapacityFeature;",
+		"import io.sarl.lang.annotation.InlinableGuardEvaluator;",
 		"import io.sarl.lang.annotation.PerceptGuardEvaluator;",
 		"import io.sarl.lang.annotation.SarlElementType;",
 		"import io.sarl.lang.annotation.SarlSpecification;",
@@ -250,6 +242,7 @@ public class Bug861Test extends AbstractSarlTest {
 		"import io.sarl.lang.core.Address;",
 		"import io.sarl.lang.core.Agent;",
 		"import io.sarl.lang.core.AtomicSkillReference;",
+		"import io.sarl.lang.core.BehaviorGuardEvaluatorTable;",
 		"import io.sarl.lang.core.DynamicSkillProvider;",
 		"import io.sarl.lang.core.Event;",
 		"import io.sarl.lang.core.Scope;",
@@ -350,6 +343,7 @@ public class Bug861Test extends AbstractSarlTest {
 		"  ",
 		"  @SyntheticMember",
 		"  @PerceptGuardEvaluator",
+		"  @InlinableGuardEvaluator",
 		"  private void $guardEvaluator$Initialize(final Initialize occurrence, final Collection<Runnable> ___SARLlocal_runnableCollection) {",
 		"    assert occurrence != null;",
 		"    assert ___SARLlocal_runnableCollection != null;",
@@ -358,6 +352,7 @@ public class Bug861Test extends AbstractSarlTest {
 		"  ",
 		"  @SyntheticMember",
 		"  @PerceptGuardEvaluator",
+		"  @InlinableGuardEvaluator",
 		"  private void $guardEvaluator$CommitSuicide(final CommitSuicide occurrence, final Collection<Runnable> ___SARLlocal_runnableCollection) {",
 		"    assert occurrence != null;",
 		"    assert ___SARLlocal_runnableCollection != null;",
@@ -365,6 +360,11 @@ public class Bug861Test extends AbstractSarlTest {
 		"  }",
 		"  ",
 		"  @SyntheticMember",
+		"  private static final BehaviorGuardEvaluatorTable<EmptyAgent> $GUARD_EVALUATOR_TABLE = BehaviorGuardEvaluatorTable.create(EmptyAgent.class)",
+		"    .add(Initialize.class, (receiver, event, callbacks) -> receiver.$guardEvaluator$Initialize((Initialize) event, callbacks))",
+		"    .add(CommitSuicide.class, (receiver, event, callbacks) -> receiver.$guardEvaluator$CommitSuicide((CommitSuicide) event, callbacks));",
+		"  ",
+		"  @SyntheticMember",
 		"  @Override",
 		"  public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
 		"    super.$getSupportedEvents(toBeFilled);",
@@ -375,27 +375,14 @@ public class Bug861Test extends AbstractSarlTest {
 		"  @SyntheticMember",
 		"  @Override",
 		"  public boolean $isSupportedEvent(final Class<? extends Event> event) {", 
-		"    if (Initialize.class.isAssignableFrom(event)) {",
-		"      return true;",
-		"    }",
-		"    if (CommitSuicide.class.isAssignableFrom(event)) {",
-		"      return true;",
-		"    }",
-		"    return false;", 
+		"    return $GUARD_EVALUATOR_TABLE.isSupportedEvent(event);",
 		"  }",
 		"  ",
 		"  @SyntheticMember",
 		"  @Override",
 		"  public void $evaluateBehaviorGuards(final Object event, final Collection<Runnable> callbacks) {",
 		"    super.$evaluateBehaviorGuards(event, callbacks);",
-		"    if (event instanceof Initialize) {",
-		"      final Initialize occurrence = (Initialize) event;",
-		"      $guardEvaluator$Initialize(occurrence, callbacks);",
-		"    }",
-		"    if (event instanceof CommitSuicide) {",
-		"      final CommitSuicide occurrence = (CommitSuicide) event;",
-		"      $guardEvaluator$CommitSuicide(occurrence, callbacks);",
-		"    }",
+		"    $GUARD_EVALUATOR_TABLE.evaluate(this, event, callbacks);",
 		"  }",
 		"  ",
 		"  @SyntheticMember",
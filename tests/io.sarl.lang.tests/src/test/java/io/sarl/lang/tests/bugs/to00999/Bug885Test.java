@@ -1844,6 +1844,7 @@ public class Bug885Test extends AbstractSarlTest {
 			"import io.sarl.lang.core.Address;",
 			"import io.sarl.lang.core.Agent;",
 			"import io.sarl.lang.core.AtomicSkillReference;",
+			"import io.sarl.lang.core.BehaviorGuardEvaluatorTable;",
 			"import io.sarl.lang.core.DynamicSkillProvider;",
 			"import io.sarl.lang.core.Event;",
 			"import io.sarl.lang.core.Scope;",
@@ -1921,6 +1922,10 @@ public class Bug885Test extends AbstractSarlTest {
 			"  }",
 			"  ",
 			"  @SyntheticMember",
+			"  private static final BehaviorGuardEvaluatorTable<MyAgent> $GUARD_EVALUATOR_TABLE = BehaviorGuardEvaluatorTable.create(MyAgent.class)",
+			"    .add(MyEvent.class, (receiver, event, callbacks) -> receiver.$guardEvaluator$MyEvent((MyEvent) event, callbacks));",
+			"  ",
+			"  @SyntheticMember",
 			"  @Override",
 			"  public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
 			"    super.$getSupportedEvents(toBeFilled);",
@@ -1930,20 +1935,14 @@ public class Bug885Test extends AbstractSarlTest {
 			"  @SyntheticMember",
 			"  @Override",
 			"  public boolean $isSupportedEvent(final Class<? extends Event> event) {", 
-			"    if (MyEvent.class.isAssignableFrom(event)) {",
-			"      return true;",
-			"    }",
-			"    return false;", 
+			"    return $GUARD_EVALUATOR_TABLE.isSupportedEvent(event);",
 			"  }",
 			"  ",
 			"  @SyntheticMember",
 			"  @Override",
 			"  public void $evaluateBehaviorGuards(final Object event, final Collection<Runnable> callbacks) {",
 			"    super.$evaluateBehaviorGuards(event, callbacks);",
-			"    if (event instanceof MyEvent) {",
-			"      final MyEvent occurrence = (MyEvent) event;",
-			"      $guardEvaluator$MyEvent(occurrence, callbacks);",
-			"    }",
+			"    $GUARD_EVALUATOR_TABLE.evaluate(this, event, callbacks);",
 			"  }",
 			"  ",
 			"  @SyntheticMember",
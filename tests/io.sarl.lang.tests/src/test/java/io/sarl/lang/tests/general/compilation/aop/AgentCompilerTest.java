@@ -22,6 +22,8 @@ package io.sarl.lang.tests.general.compilation.aop;
 
 import static io.sarl.tests.api.tools.TestUtils.multilineString;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
@@ -105,11 +107,13 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				""
 				);
 		final String expectedA1 = multilineString(
+				"import io.sarl.lang.annotation.InlinableGuardEvaluator;",
 				"import io.sarl.lang.annotation.PerceptGuardEvaluator;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
 				"import io.sarl.lang.core.Agent;",
+				"import io.sarl.lang.core.BehaviorGuardEvaluatorTable;",
 				"import io.sarl.lang.core.DynamicSkillProvider;",
 				"import io.sarl.lang.core.Event;",
 				"import java.util.Collection;",
@@ -127,6 +131,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"  ",
 				"  @SyntheticMember",
 				"  @PerceptGuardEvaluator",
+				"  @InlinableGuardEvaluator",
 				"  private void $guardEvaluator$E1(final E1 occurrence, final Collection<Runnable> ___SARLlocal_runnableCollection) {",
 				"    assert occurrence != null;",
 				"    assert ___SARLlocal_runnableCollection != null;",
@@ -134,6 +139,10 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"  }",
 				"  ",
 				"  @SyntheticMember",
+				"  private static final BehaviorGuardEvaluatorTable<A1> $GUARD_EVALUATOR_TABLE = BehaviorGuardEvaluatorTable.create(A1.class)",
+				"    .add(E1.class, (receiver, event, callbacks) -> receiver.$guardEvaluator$E1((E1) event, callbacks));",
+				"  ",
+				"  @SyntheticMember",
 				"  @Override",
 				"  public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
 				"    super.$getSupportedEvents(toBeFilled);",
@@ -143,20 +152,14 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"  @SyntheticMember",
 				"  @Override",
 				"  public boolean $isSupportedEvent(final Class<? extends Event> event) {", 
-				"    if (E1.class.isAssignableFrom(event)) {",
-				"      return true;",
-				"    }",
-				"    return false;", 
+				"    return $GUARD_EVALUATOR_TABLE.isSupportedEvent(event);",
 				"  }",
 				"  ",
 				"  @SyntheticMember",
 				"  @Override",
 				"  public void $evaluateBehaviorGuards(final Object event, final Collection<Runnable> callbacks) {",
 				"    super.$evaluateBehaviorGuards(event, callbacks);",
-				"    if (event instanceof E1) {",
-				"      final E1 occurrence = (E1) event;",
-				"      $guardEvaluator$E1(occurrence, callbacks);",
-				"    }",
+				"    $GUARD_EVALUATOR_TABLE.evaluate(this, event, callbacks);",
 				"  }",
 				"  ",
 				"  @SyntheticMember",
@@ -323,11 +326,13 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				""
 				);
 		final String expectedA1 = multilineString(
+				"import io.sarl.lang.annotation.InlinableGuardEvaluator;",
 				"import io.sarl.lang.annotation.PerceptGuardEvaluator;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
 				"import io.sarl.lang.core.Agent;",
+				"import io.sarl.lang.core.BehaviorGuardEvaluatorTable;",
 				"import io.sarl.lang.core.DynamicSkillProvider;",
 				"import io.sarl.lang.core.Event;",
 				"import java.util.Collection;",
@@ -352,6 +357,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"  ",
 				"  @SyntheticMember",
 				"  @PerceptGuardEvaluator",
+				"  @InlinableGuardEvaluator",
 				"  private void $guardEvaluator$E1(final E1 occurrence, final Collection<Runnable> ___SARLlocal_runnableCollection) {",
 				"    assert occurrence != null;",
 				"    assert ___SARLlocal_runnableCollection != null;",
@@ -361,6 +367,10 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"  }",
 				"  ",
 				"  @SyntheticMember",
+				"  private static final BehaviorGuardEvaluatorTable<A1> $GUARD_EVALUATOR_TABLE = BehaviorGuardEvaluatorTable.create(A1.class)",
+				"    .add(E1.class, (receiver, event, callbacks) -> receiver.$guardEvaluator$E1((E1) event, callbacks));",
+				"  ",
+				"  @SyntheticMember",
 				"  @Override",
 				"  public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
 				"    super.$getSupportedEvents(toBeFilled);",
@@ -370,20 +380,14 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"  @SyntheticMember",
 				"  @Override",
 				"  public boolean $isSupportedEvent(final Class<? extends Event> event) {", 
-				"    if (E1.class.isAssignableFrom(event)) {",
-				"      return true;",
-				"    }",
-				"    return false;", 
+				"    return $GUARD_EVALUATOR_TABLE.isSupportedEvent(event);",
 				"  }",
 				"  ",
 				"  @SyntheticMember",
 				"  @Override",
 				"  public void $evaluateBehaviorGuards(final Object event, final Collection<Runnable> callbacks) {",
 				"    super.$evaluateBehaviorGuards(event, callbacks);",
-				"    if (event instanceof E1) {",
-				"      final E1 occurrence = (E1) event;",
-				"      $guardEvaluator$E1(occurrence, callbacks);",
-				"    }",
+				"    $GUARD_EVALUATOR_TABLE.evaluate(this, event, callbacks);",
 				"  }",
 				"  ",
 				"  @SyntheticMember",
@@ -413,6 +417,46 @@ public class AgentCompilerTest extends AbstractSarlTest {
 		});
 	}
 
+	@Test
+	public void costlyGuardBehaviorUnit() throws Exception {
+		String source = multilineString(
+				"event E1 { var i : int }",
+				"agent A1 {",
+				"  on E1 [ occurrence.i === 1 ] {",
+				"    System.out.println(occurrence)",
+				"  }",
+				"  on E1 [ #[1, 2].contains(occurrence.i) ] {",
+				"    System.out.println(occurrence)",
+				"  }",
+				"}"
+				);
+		getCompileHelper().compile(source, (r) -> {
+			final String code = r.getGeneratedCode("A1");
+			assertTrue(code.contains("@PerceptGuardEvaluator"));
+			assertFalse(code.contains("@InlinableGuardEvaluator"));
+		});
+	}
+
+	@Test
+	public void getterGuardBehaviorUnit() throws Exception {
+		String source = multilineString(
+				"event E1 { var i : int }",
+				"agent A1 {",
+				"  on E1 [ occurrence.i === 1 ] {",
+				"    System.out.println(occurrence)",
+				"  }",
+				"  on E1 [ occurrence.source !== null ] {",
+				"    System.out.println(occurrence)",
+				"  }",
+				"}"
+				);
+		getCompileHelper().compile(source, (r) -> {
+			final String code = r.getGeneratedCode("A1");
+			assertTrue(code.contains("@PerceptGuardEvaluator"));
+			assertFalse(code.contains("@InlinableGuardEvaluator"));
+		});
+	}
+
 	@Test
 	public void valueVisibility_0() throws Exception {
 		getCompileHelper().assertCompilesTo(
@@ -2189,6 +2233,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
 				"import io.sarl.lang.core.Agent;",
+				"import io.sarl.lang.core.BehaviorGuardEvaluatorTable;",
 				"import io.sarl.lang.core.DynamicSkillProvider;",
 				"import io.sarl.lang.core.Event;",
 				"import java.util.Collection;",
@@ -2239,6 +2284,10 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"  }",
 				"  ",
 				"  @SyntheticMember",
+				"  private static final BehaviorGuardEvaluatorTable<MyAgent> $GUARD_EVALUATOR_TABLE = BehaviorGuardEvaluatorTable.create(MyAgent.class)",
+				"    .add(Initialize.class, (receiver, event, callbacks) -> receiver.$guardEvaluator$Initialize((Initialize) event, callbacks));",
+				"  ",
+				"  @SyntheticMember",
 				"  @Override",
 				"  public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
 				"    super.$getSupportedEvents(toBeFilled);",
@@ -2248,20 +2297,14 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"  @SyntheticMember",
 				"  @Override",
 				"  public boolean $isSupportedEvent(final Class<? extends Event> event) {", 
-				"    if (Initialize.class.isAssignableFrom(event)) {",
-				"      return true;",
-				"    }",
-				"    return false;", 
+				"    return $GUARD_EVALUATOR_TABLE.isSupportedEvent(event);",
 				"  }",
 				"  ",
 				"  @SyntheticMember",
 				"  @Override",
 				"  public void $evaluateBehaviorGuards(final Object event, final Collection<Runnable> callbacks) {",
 				"    super.$evaluateBehaviorGuards(event, callbacks);",
-				"    if (event instanceof Initialize) {",
-				"      final Initialize occurrence = (Initialize) event;",
-				"      $guardEvaluator$Initialize(occurrence, callbacks);",
-				"    }",
+				"    $GUARD_EVALUATOR_TABLE.evaluate(this, event, callbacks);",
 				"  }",
 				"  ",
 				"  @SyntheticMember",
@@ -2297,11 +2340,13 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"",
 				"import foo.test.Destroy;",
 				"import foo.test.Initialize;",
+				"import io.sarl.lang.annotation.InlinableGuardEvaluator;",
 				"import io.sarl.lang.annotation.PerceptGuardEvaluator;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
 				"import io.sarl.lang.core.Agent;",
+				"import io.sarl.lang.core.BehaviorGuardEvaluatorTable;",
 				"import io.sarl.lang.core.DynamicSkillProvider;",
 				"import io.sarl.lang.core.Event;",
 				"import java.util.Collection;",
@@ -2321,6 +2366,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"  ",
 				"  @SyntheticMember",
 				"  @PerceptGuardEvaluator",
+				"  @InlinableGuardEvaluator",
 				"  private void $guardEvaluator$Destroy(final Destroy occurrence, final Collection<Runnable> ___SARLlocal_runnableCollection) {",
 				"    assert occurrence != null;",
 				"    assert ___SARLlocal_runnableCollection != null;",
@@ -2329,6 +2375,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"  ",
 				"  @SyntheticMember",
 				"  @PerceptGuardEvaluator",
+				"  @InlinableGuardEvaluator",
 				"  private void $guardEvaluator$Initialize(final Initialize occurrence, final Collection<Runnable> ___SARLlocal_runnableCollection) {",
 				"    assert occurrence != null;",
 				"    assert ___SARLlocal_runnableCollection != null;",
@@ -2336,6 +2383,11 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"  }",
 				"  ",
 				"  @SyntheticMember",
+				"  private static final BehaviorGuardEvaluatorTable<MyAgent> $GUARD_EVALUATOR_TABLE = BehaviorGuardEvaluatorTable.create(MyAgent.class)",
+				"    .add(Destroy.class, (receiver, event, callbacks) -> receiver.$guardEvaluator$Destroy((Destroy) event, callbacks))",
+				"    .add(Initialize.class, (receiver, event, callbacks) -> receiver.$guardEvaluator$Initialize((Initialize) event, callbacks));",
+				"  ",
+				"  @SyntheticMember",
 				"  @Override",
 				"  public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
 				"    super.$getSupportedEvents(toBeFilled);",
@@ -2346,27 +2398,14 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"  @SyntheticMember",
 				"  @Override",
 				"  public boolean $isSupportedEvent(final Class<? extends Event> event) {", 
-				"    if (Destroy.class.isAssignableFrom(event)) {",
-				"      return true;",
-				"    }",
-				"    if (Initialize.class.isAssignableFrom(event)) {",
-				"      return true;",
-				"    }",
-				"    return false;", 
+				"    return $GUARD_EVALUATOR_TABLE.isSupportedEvent(event);",
 				"  }",
 				"  ",
 				"  @SyntheticMember",
 				"  @Override",
 				"  public void $evaluateBehaviorGuards(final Object event, final Collection<Runnable> callbacks) {",
 				"    super.$evaluateBehaviorGuards(event, callbacks);",
-				"    if (event instanceof Destroy) {",
-				"      final Destroy occurrence = (Destroy) event;",
-				"      $guardEvaluator$Destroy(occurrence, callbacks);",
-				"    }",
-				"    if (event instanceof Initialize) {",
-				"      final Initialize occurrence = (Initialize) event;",
-				"      $guardEvaluator$Initialize(occurrence, callbacks);",
-				"    }",
+				"    $GUARD_EVALUATOR_TABLE.evaluate(this, event, callbacks);",
 				"  }",
 				"  ",
 				"  @SyntheticMember",
@@ -2406,11 +2445,13 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"",
 				"import foo.test.Destroy;",
 				"import foo.test.Initialize;",
+				"import io.sarl.lang.annotation.InlinableGuardEvaluator;",
 				"import io.sarl.lang.annotation.PerceptGuardEvaluator;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
 				"import io.sarl.lang.core.Agent;",
+				"import io.sarl.lang.core.BehaviorGuardEvaluatorTable;",
 				"import io.sarl.lang.core.DynamicSkillProvider;",
 				"import io.sarl.lang.core.Event;",
 				"import java.util.Collection;",
@@ -2436,6 +2477,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"  ",  
 				"  @SyntheticMember",
 				"  @PerceptGuardEvaluator",
+				"  @InlinableGuardEvaluator",
 				"  private void $guardEvaluator$Destroy(final Destroy occurrence, final Collection<Runnable> ___SARLlocal_runnableCollection) {",
 				"    assert occurrence != null;",
 				"    assert ___SARLlocal_runnableCollection != null;",
@@ -2444,6 +2486,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"  ",
 				"  @SyntheticMember",
 				"  @PerceptGuardEvaluator",
+				"  @InlinableGuardEvaluator",
 				"  private void $guardEvaluator$Initialize(final Initialize occurrence, final Collection<Runnable> ___SARLlocal_runnableCollection) {",
 				"    assert occurrence != null;",
 				"    assert ___SARLlocal_runnableCollection != null;",
@@ -2452,6 +2495,11 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"  }",
 				"  ",
 				"  @SyntheticMember",
+				"  private static final BehaviorGuardEvaluatorTable<MyAgent> $GUARD_EVALUATOR_TABLE = BehaviorGuardEvaluatorTable.create(MyAgent.class)",
+				"    .add(Destroy.class, (receiver, event, callbacks) -> receiver.$guardEvaluator$Destroy((Destroy) event, callbacks))",
+				"    .add(Initialize.class, (receiver, event, callbacks) -> receiver.$guardEvaluator$Initialize((Initialize) event, callbacks));",
+				"  ",
+				"  @SyntheticMember",
 				"  @Override",
 				"  public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
 				"    super.$getSupportedEvents(toBeFilled);",
@@ -2462,27 +2510,14 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"  @SyntheticMember",
 				"  @Override",
 				"  public boolean $isSupportedEvent(final Class<? extends Event> event) {", 
-				"    if (Destroy.class.isAssignableFrom(event)) {",
-				"      return true;",
-				"    }",
-				"    if (Initialize.class.isAssignableFrom(event)) {",
-				"      return true;",
-				"    }",
-				"    return false;", 
+				"    return $GUARD_EVALUATOR_TABLE.isSupportedEvent(event);",
 				"  }",
 				"  ",
 				"  @SyntheticMember",
 				"  @Override",
 				"  public void $evaluateBehaviorGuards(final Object event, final Collection<Runnable> callbacks) {",
 				"    super.$evaluateBehaviorGuards(event, callbacks);",
-				"    if (event instanceof Destroy) {",
-				"      final Destroy occurrence = (Destroy) event;",
-				"      $guardEvaluator$Destroy(occurrence, callbacks);",
-				"    }",
-				"    if (event instanceof Initialize) {",
-				"      final Initialize occurrence = (Initialize) event;",
-				"      $guardEvaluator$Initialize(occurrence, callbacks);",
-				"    }",
+				"    $GUARD_EVALUATOR_TABLE.evaluate(this, event, callbacks);",
 				"  }",
 				"  ",
 				"  @SyntheticMember",
@@ -2523,11 +2558,13 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"",
 				"import foo.test.Destroy;",
 				"import foo.test.Initialize;",
+				"import io.sarl.lang.annotation.InlinableGuardEvaluator;",
 				"import io.sarl.lang.annotation.PerceptGuardEvaluator;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
 				"import io.sarl.lang.core.Agent;",
+				"import io.sarl.lang.core.BehaviorGuardEvaluatorTable;",
 				"import io.sarl.lang.core.DynamicSkillProvider;",
 				"import io.sarl.lang.core.Event;",
 				"import java.util.Collection;",
@@ -2568,6 +2605,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"  ",  
 				"  @SyntheticMember",
 				"  @PerceptGuardEvaluator",
+				"  @InlinableGuardEvaluator",
 				"  private void $guardEvaluator$Destroy(final Destroy occurrence, final Collection<Runnable> ___SARLlocal_runnableCollection) {",
 				"    assert occurrence != null;",
 				"    assert ___SARLlocal_runnableCollection != null;",
@@ -2576,6 +2614,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"  ",
 				"  @SyntheticMember",
 				"  @PerceptGuardEvaluator",
+				"  @InlinableGuardEvaluator",
 				"  private void $guardEvaluator$Initialize(final Initialize occurrence, final Collection<Runnable> ___SARLlocal_runnableCollection) {",
 				"    assert occurrence != null;",
 				"    assert ___SARLlocal_runnableCollection != null;",
@@ -2588,6 +2627,11 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"  }",
 				"  ",
 				"  @SyntheticMember",
+				"  private static final BehaviorGuardEvaluatorTable<MyAgent> $GUARD_EVALUATOR_TABLE = BehaviorGuardEvaluatorTable.create(MyAgent.class)",
+				"    .add(Destroy.class, (receiver, event, callbacks) -> receiver.$guardEvaluator$Destroy((Destroy) event, callbacks))",
+				"    .add(Initialize.class, (receiver, event, callbacks) -> receiver.$guardEvaluator$Initialize((Initialize) event, callbacks));",
+				"  ",
+				"  @SyntheticMember",
 				"  @Override",
 				"  public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
 				"    super.$getSupportedEvents(toBeFilled);",
@@ -2598,27 +2642,14 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"  @SyntheticMember",
 				"  @Override",
 				"  public boolean $isSupportedEvent(final Class<? extends Event> event) {", 
-				"    if (Destroy.class.isAssignableFrom(event)) {",
-				"      return true;",
-				"    }",
-				"    if (Initialize.class.isAssignableFrom(event)) {",
-				"      return true;",
-				"    }",
-				"    return false;", 
+				"    return $GUARD_EVALUATOR_TABLE.isSupportedEvent(event);",
 				"  }",
 				"  ",
 				"  @SyntheticMember",
 				"  @Override",
 				"  public void $evaluateBehaviorGuards(final Object event, final Collection<Runnable> callbacks) {",
 				"    super.$evaluateBehaviorGuards(event, callbacks);",
-				"    if (event instanceof Destroy) {",
-				"      final Destroy occurrence = (Destroy) event;",
-				"      $guardEvaluator$Destroy(occurrence, callbacks);",
-				"    }",
-				"    if (event instanceof Initialize) {",
-				"      final Initialize occurrence = (Initialize) event;",
-				"      $guardEvaluator$Initialize(occurrence, callbacks);",
-				"    }",
+				"    $GUARD_EVALUATOR_TABLE.evaluate(this, event, callbacks);",
 				"  }",
 				"  ",
 				"  @Override",
@@ -2689,11 +2720,13 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"",
 				"import foo.test.Destroy;",
 				"import foo.test.Initialize;",
+				"import io.sarl.lang.annotation.InlinableGuardEvaluator;",
 				"import io.sarl.lang.annotation.PerceptGuardEvaluator;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
 				"import io.sarl.lang.core.Agent;",
+				"import io.sarl.lang.core.BehaviorGuardEvaluatorTable;",
 				"import io.sarl.lang.core.DynamicSkillProvider;",
 				"import io.sarl.lang.core.Event;",
 				"import java.util.Collection;",
@@ -2745,6 +2778,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"  ",  
 				"  @SyntheticMember",
 				"  @PerceptGuardEvaluator",
+				"  @InlinableGuardEvaluator",
 				"  private void $guardEvaluator$Destroy(final Destroy occurrence, final Collection<Runnable> ___SARLlocal_runnableCollection) {",
 				"    assert occurrence != null;",
 				"    assert ___SARLlocal_runnableCollection != null;",
@@ -2756,6 +2790,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"  ",
 				"  @SyntheticMember",
 				"  @PerceptGuardEvaluator",
+				"  @InlinableGuardEvaluator",
 				"  private void $guardEvaluator$Initialize(final Initialize occurrence, final Collection<Runnable> ___SARLlocal_runnableCollection) {",
 				"    assert occurrence != null;",
 				"    assert ___SARLlocal_runnableCollection != null;",
@@ -2768,6 +2803,11 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"  }",
 				"  ",
 				"  @SyntheticMember",
+				"  private static final BehaviorGuardEvaluatorTable<MyAgent> $GUARD_EVALUATOR_TABLE = BehaviorGuardEvaluatorTable.create(MyAgent.class)",
+				"    .add(Destroy.class, (receiver, event, callbacks) -> receiver.$guardEvaluator$Destroy((Destroy) event, callbacks))",
+				"    .add(Initialize.class, (receiver, event, callbacks) -> receiver.$guardEvaluator$Initialize((Initialize) event, callbacks));",
+				"  ",
+				"  @SyntheticMember",
 				"  @Override",
 				"  public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
 				"    super.$getSupportedEvents(toBeFilled);",
@@ -2778,27 +2818,14 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"  @SyntheticMember",
 				"  @Override",
 				"  public boolean $isSupportedEvent(final Class<? extends Event> event) {", 
-				"    if (Destroy.class.isAssignableFrom(event)) {",
-				"      return true;",
-				"    }",
-				"    if (Initialize.class.isAssignableFrom(event)) {",
-				"      return true;",
-				"    }",
-				"    return false;", 
+				"    return $GUARD_EVALUATOR_TABLE.isSupportedEvent(event);",
 				"  }",
 				"  ",
 				"  @SyntheticMember",
 				"  @Override",
 				"  public void $evaluateBehaviorGuards(final Object event, final Collection<Runnable> callbacks) {",
 				"    super.$evaluateBehaviorGuards(event, callbacks);",
-				"    if (event instanceof Destroy) {",
-				"      final Destroy occurrence = (Destroy) event;",
-				"      $guardEvaluator$Destroy(occurrence, callbacks);",
-				"    }",
-				"    if (event instanceof Initialize) {",
-				"      final Initialize occurrence = (Initialize) event;",
-				"      $guardEvaluator$Initialize(occurrence, callbacks);",
-				"    }",
+				"    $GUARD_EVALUATOR_TABLE.evaluate(this, event, callbacks);",
 				"  }",
 				"  ",
 				"  @Override",
@@ -96,12 +96,14 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				""
 				);
 		final String expectedB1 = multilineString(
+				"import io.sarl.lang.annotation.InlinableGuardEvaluator;",
 				"import io.sarl.lang.annotation.PerceptGuardEvaluator;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
 				"import io.sarl.lang.core.Agent;",
 				"import io.sarl.lang.core.Behavior;",
+				"import io.sarl.lang.core.BehaviorGuardEvaluatorTable;",
 				"import io.sarl.lang.core.Event;",
 				"import java.util.Collection;",
 				"import java.util.Set;",
@@ -116,6 +118,7 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"  ",
 				"  @SyntheticMember",
 				"  @PerceptGuardEvaluator",
+				"  @InlinableGuardEvaluator",
 				"  private void $guardEvaluator$E1(final E1 occurrence, final Collection<Runnable> ___SARLlocal_runnableCollection) {",
 				"    assert occurrence != null;",
 				"    assert ___SARLlocal_runnableCollection != null;",
@@ -123,6 +126,10 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"  }",
 				"  ",
 				"  @SyntheticMember",
+				"  private static final BehaviorGuardEvaluatorTable<B1> $GUARD_EVALUATOR_TABLE = BehaviorGuardEvaluatorTable.create(B1.class)",
+				"    .add(E1.class, (receiver, event, callbacks) -> receiver.$guardEvaluator$E1((E1) event, callbacks));",
+				"  ",
+				"  @SyntheticMember",
 				"  @Override",
 				"  public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
 				"    super.$getSupportedEvents(toBeFilled);",
@@ -132,20 +139,14 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"  @SyntheticMember",
 				"  @Override",
 				"  public boolean $isSupportedEvent(final Class<? extends Event> event) {", 
-				"    if (E1.class.isAssignableFrom(event)) {",
-				"      return true;",
-				"    }",
-				"    return false;", 
+				"    return $GUARD_EVALUATOR_TABLE.isSupportedEvent(event);",
 				"  }",
 				"  ",
 				"  @SyntheticMember",
 				"  @Override",
 				"  public void $evaluateBehaviorGuards(final Object event, final Collection<Runnable> callbacks) {",
 				"    super.$evaluateBehaviorGuards(event, callbacks);",
-				"    if (event instanceof E1) {",
-				"      final E1 occurrence = (E1) event;",
-				"      $guardEvaluator$E1(occurrence, callbacks);",
-				"    }",
+				"    $GUARD_EVALUATOR_TABLE.evaluate(this, event, callbacks);",
 				"  }",
 				"  ",
 				"  @SyntheticMember",
@@ -298,12 +299,14 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				""
 				);
 		final String expectedB1 = multilineString(
+				"import io.sarl.lang.annotation.InlinableGuardEvaluator;",
 				"import io.sarl.lang.annotation.PerceptGuardEvaluator;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
 				"import io.sarl.lang.core.Agent;",
 				"import io.sarl.lang.core.Behavior;",
+				"import io.sarl.lang.core.BehaviorGuardEvaluatorTable;",
 				"import io.sarl.lang.core.Event;",
 				"import java.util.Collection;",
 				"import java.util.Set;",
@@ -325,6 +328,7 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"  ",
 				"  @SyntheticMember",
 				"  @PerceptGuardEvaluator",
+				"  @InlinableGuardEvaluator",
 				"  private void $guardEvaluator$E1(final E1 occurrence, final Collection<Runnable> ___SARLlocal_runnableCollection) {",
 				"    assert occurrence != null;",
 				"    assert ___SARLlocal_runnableCollection != null;",
@@ -334,6 +338,10 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"  }",
 				"  ",
 				"  @SyntheticMember",
+				"  private static final BehaviorGuardEvaluatorTable<B1> $GUARD_EVALUATOR_TABLE = BehaviorGuardEvaluatorTable.create(B1.class)",
+				"    .add(E1.class, (receiver, event, callbacks) -> receiver.$guardEvaluator$E1((E1) event, callbacks));",
+				"  ",
+				"  @SyntheticMember",
 				"  @Override",
 				"  public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
 				"    super.$getSupportedEvents(toBeFilled);",
@@ -343,20 +351,14 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"  @SyntheticMember",
 				"  @Override",
 				"  public boolean $isSupportedEvent(final Class<? extends Event> event) {", 
-				"    if (E1.class.isAssignableFrom(event)) {",
-				"      return true;",
-				"    }",
-				"    return false;", 
+				"    return $GUARD_EVALUATOR_TABLE.isSupportedEvent(event);",
 				"  }",
 				"  ",
 				"  @SyntheticMember",
 				"  @Override",
 				"  public void $evaluateBehaviorGuards(final Object event, final Collection<Runnable> callbacks) {",
 				"    super.$evaluateBehaviorGuards(event, callbacks);",
-				"    if (event instanceof E1) {",
-				"      final E1 occurrence = (E1) event;",
-				"      $guardEvaluator$E1(occurrence, callbacks);",
-				"    }",
+				"    $GUARD_EVALUATOR_TABLE.evaluate(this, event, callbacks);",
 				"  }",
 				"  ",
 				"  @SyntheticMember",
@@ -0,0 +1,138 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2021 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sarl.lang.tests.modules.compiler.batch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.util.Arrays;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import com.google.common.io.Files;
+import org.arakhne.afc.vmutil.FileSystem;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.sarl.lang.compiler.batch.ClassPathIndex;
+import io.sarl.tests.api.AbstractSarlTest;
+
+/**
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.13
+ */
+@SuppressWarnings("all")
+@DisplayName("ClassPathIndex")
+@Tag("core")
+@Tag("unit")
+public class ClassPathIndexTest extends AbstractSarlTest {
+
+	private File tempDirectory;
+
+	private File classDirectory;
+
+	private File archive;
+
+	private File cacheDirectory;
+
+	@BeforeEach
+	public void setUp() throws Exception {
+		this.tempDirectory = FileSystem.createTempDirectory("sarltests_" + getClass().getSimpleName()+ "_", "tmp");
+		this.classDirectory = new File(this.tempDirectory, "classes");
+		new File(this.classDirectory, "io/sarl/dir").mkdirs();
+		Files.write("a".getBytes(), new File(this.classDirectory, "io/sarl/dir/Type.class"));
+		this.archive = new File(this.tempDirectory, "lib.jar");
+		writeArchive(this.archive, "io/sarl/lib/Type.class", "META-INF/versions/11/io/sarl/lib/Versioned.class");
+		this.cacheDirectory = new File(this.tempDirectory, "cache");
+	}
+
+	@AfterEach
+	public void tearDown() throws Exception {
+		FileSystem.delete(this.tempDirectory);
+	}
+
+	private static void writeArchive(File file, String... names) throws Exception {
+		try (ZipOutputStream output = new ZipOutputStream(new FileOutputStream(file))) {
+			for (final String name : names) {
+				output.putNextEntry(new ZipEntry(name));
+				output.write(1);
+				output.closeEntry();
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("Lookup in archives and folders")
+	public void lookup() throws Exception {
+		final ClassPathIndex.Lookup lookup = new ClassPathIndex(this.cacheDirectory).createLookup(
+				Arrays.asList(this.classDirectory, this.archive));
+		assertTrue(lookup.contains("io/sarl/lib/Type.class"));
+		assertTrue(lookup.contains("io/sarl/lib/Versioned.class"));
+		assertTrue(lookup.contains("io/sarl/lib/"));
+		assertTrue(lookup.contains("io/sarl/lib"));
+		assertTrue(lookup.contains("io/sarl/dir/Type.class"));
+		assertFalse(lookup.contains("io/sarl/lib/Unknown.class"));
+		assertFalse(lookup.contains("io/sarl/dir/Unknown.class"));
+	}
+
+	@Test
+	@DisplayName("Index file")
+	public void indexFile() throws Exception {
+		new ClassPathIndex(this.cacheDirectory).getArchiveIndex(this.archive);
+		final String[] files = this.cacheDirectory.list();
+		assertNotNull(files);
+		assertEquals(1, files.length);
+		final ClassPathIndex.ArchiveIndex index = new ClassPathIndex(this.cacheDirectory).getArchiveIndex(this.archive);
+		assertTrue(index.contains("io/sarl/lib/Type.class"));
+		assertFalse(index.contains("io/sarl/lib/Unknown.class"));
+	}
+
+	@Test
+	@DisplayName("In-memory index")
+	public void inMemory() throws Exception {
+		final ClassPathIndex.ArchiveIndex index = new ClassPathIndex(null).getArchiveIndex(this.archive);
+		assertTrue(index.contains("io/sarl/lib/Type.class"));
+		assertFalse(index.contains("io/sarl/lib/Unknown.class"));
+	}
+
+	@Test
+	@DisplayName("Changed archive")
+	public void changedArchive() throws Exception {
+		final ClassPathIndex classPathIndex = new ClassPathIndex(this.cacheDirectory);
+		assertFalse(classPathIndex.getArchiveIndex(this.archive).contains("io/sarl/lib/Other.class"));
+		final long lastModified = this.archive.lastModified();
+		writeArchive(this.archive, "io/sarl/lib/Type.class", "io/sarl/lib/Other.class");
+		this.archive.setLastModified(lastModified + 2000);
+		assertTrue(classPathIndex.getArchiveIndex(this.archive).contains("io/sarl/lib/Other.class"));
+		assertTrue(new ClassPathIndex(this.cacheDirectory).getArchiveIndex(this.archive).contains("io/sarl/lib/Other.class"));
+	}
+
+}
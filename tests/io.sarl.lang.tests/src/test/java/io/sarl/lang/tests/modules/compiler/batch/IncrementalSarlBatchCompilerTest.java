@@ -0,0 +1,208 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2021 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sarl.lang.tests.modules.compiler.batch;
+
+import static io.sarl.tests.api.tools.TestUtils.multilineString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.inject.Inject;
+import javax.inject.Provider;
+
+import com.google.common.io.Files;
+import org.arakhne.afc.vmutil.FileSystem;
+import org.eclipse.xtext.validation.Issue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.sarl.lang.compiler.batch.IncrementalCompilationIndex;
+import io.sarl.lang.compiler.batch.SarlBatchCompiler;
+import io.sarl.tests.api.AbstractSarlTest;
+
+/**
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.13
+ */
+@SuppressWarnings("all")
+@DisplayName("SarlBatchCompiler in incremental mode")
+@Tag("core")
+@Tag("compiler-run")
+public class IncrementalSarlBatchCompilerTest extends AbstractSarlTest {
+
+	private static final String CODE_A = multilineString(
+			"package io.sarl.lang.tests.compiler.batch",
+			"class A {",
+			"  def oneFunction : int {",
+			"    1",
+			"  }",
+			"}"
+			);
+
+	private static final String CODE_A2 = multilineString(
+			"package io.sarl.lang.tests.compiler.batch",
+			"class A {",
+			"  def oneFunction : int {",
+			"    2",
+			"  }",
+			"}"
+			);
+
+	private static final String CODE_B = multilineString(
+			"package io.sarl.lang.tests.compiler.batch",
+			"class B {",
+			"  def twoFunction : int {",
+			"    new A().oneFunction + 1",
+			"  }",
+			"}"
+			);
+
+	private static final String CODE_C = multilineString(
+			"package io.sarl.lang.tests.compiler.batch",
+			"class C {",
+			"  def threeFunction : int {",
+			"    3",
+			"  }",
+			"}"
+			);
+
+	private static final String CODE_C2 = multilineString(
+			"package io.sarl.lang.tests.compiler.batch",
+			"class C {",
+			"  def threeFunction : int {",
+			"    4",
+			"  }",
+			"}"
+			);
+
+	@Inject
+	private Provider<SarlBatchCompiler> compilerProvider;
+
+	private File tempDirectory;
+
+	private File sourceDirectory;
+
+	private File sarlcOutputDirectory;
+
+	@BeforeEach
+	public void setUp() throws Exception {
+		this.tempDirectory = FileSystem.createTempDirectory("sarltests_" + getClass().getSimpleName()+ "_", "tmp");
+		this.sourceDirectory = new File(this.tempDirectory, "src");
+		this.sourceDirectory.mkdirs();
+		this.sarlcOutputDirectory = new File(this.tempDirectory, "src-gen");
+		this.sarlcOutputDirectory.mkdirs();
+		Files.write(CODE_A.getBytes(), new File(this.sourceDirectory, "a.sarl"));
+		Files.write(CODE_B.getBytes(), new File(this.sourceDirectory, "b.sarl"));
+		Files.write(CODE_C.getBytes(), new File(this.sourceDirectory, "c.sarl"));
+	}
+
+	@AfterEach
+	public void tearDown() throws Exception {
+		FileSystem.delete(this.tempDirectory);
+	}
+
+	private Set<String> compile() throws Exception {
+		SarlBatchCompiler compiler = this.compilerProvider.get();
+		File buildDirectory = new File(this.tempDirectory, "build");
+		buildDirectory.mkdirs();
+		File javacOutputDirectory = new File(this.tempDirectory, "bin");
+		javacOutputDirectory.mkdirs();
+		compiler.setBasePath(this.tempDirectory.getAbsolutePath());
+		compiler.setSourcePath(this.sourceDirectory.getAbsolutePath());
+		compiler.setOutputPath(this.sarlcOutputDirectory);
+		compiler.setClassOutputPath(javacOutputDirectory);
+		compiler.setTempDirectory(buildDirectory);
+		compiler.setJavaCompilerVerbose(false);
+		compiler.setGenerateInlineAnnotation(false);
+		compiler.setReportInternalProblemsAsIssues(true);
+		compiler.setJavaPostCompilationEnable(true);
+		compiler.setIncrementalCompilation(true);
+		final List<Issue> issues = new ArrayList<>();
+		compiler.addIssueMessageListener((issue, uri, message) -> {
+			issues.add(issue);
+		});
+		final Set<String> compiledFiles = new TreeSet<>();
+		compiler.addCompiledResourceReceiver(it -> compiledFiles.add(it.getURI().lastSegment()));
+		if (!compiler.compile()) {
+			throw new RuntimeException("Compilation error: " + issues.toString());
+		}
+		return compiledFiles;
+	}
+
+	private static Set<String> set(String... names) {
+		return new TreeSet<>(Arrays.asList(names));
+	}
+
+	@Test
+	@DisplayName("First compilation")
+	public void firstCompilation() throws Exception {
+		assertEquals(set("a.sarl", "b.sarl", "c.sarl"), compile());
+		assertTrue(new File(this.sarlcOutputDirectory, IncrementalCompilationIndex.INDEX_FILENAME).isFile());
+	}
+
+	@Test
+	@DisplayName("No change")
+	public void noChange() throws Exception {
+		compile();
+		assertEquals(set(), compile());
+	}
+
+	@Test
+	@DisplayName("Change of an independent file")
+	public void independentChange() throws Exception {
+		compile();
+		Files.write(CODE_C2.getBytes(), new File(this.sourceDirectory, "c.sarl"));
+		assertEquals(set("c.sarl"), compile());
+	}
+
+	@Test
+	@DisplayName("Change of a file with dependents")
+	public void changeWithDependents() throws Exception {
+		compile();
+		Files.write(CODE_A2.getBytes(), new File(this.sourceDirectory, "a.sarl"));
+		assertEquals(set("a.sarl", "b.sarl"), compile());
+	}
+
+	@Test
+	@DisplayName("Removed file")
+	public void removedFile() throws Exception {
+		compile();
+		final File javaFile = new File(this.sarlcOutputDirectory, "io/sarl/lang/tests/compiler/batch/C.java");
+		assertTrue(javaFile.isFile());
+		new File(this.sourceDirectory, "c.sarl").delete();
+		assertEquals(set(), compile());
+		assertFalse(javaFile.exists());
+	}
+
+}
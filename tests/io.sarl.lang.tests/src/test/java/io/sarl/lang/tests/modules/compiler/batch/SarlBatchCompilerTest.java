@@ -20,6 +20,12 @@
  */
 package io.sarl.lang.tests.modules.compiler.batch;
 
+import static io.sarl.tests.api.tools.TestUtils.multilineString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
@@ -27,10 +33,16 @@ import java.util.List;
 import javax.inject.Inject;
 import javax.inject.Provider;
 
+import com.google.common.io.Files;
+import org.arakhne.afc.vmutil.FileSystem;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.xtext.validation.Issue;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
 
+import io.sarl.lang.compiler.batch.CompilerStatus;
 import io.sarl.lang.compiler.batch.SarlBatchCompiler;
 
 
@@ -46,9 +58,39 @@ import io.sarl.lang.compiler.batch.SarlBatchCompiler;
 @Tag("compiler-run")
 public class SarlBatchCompilerTest extends AbstractBatchCompilerTest {
 
+	private static final String SARL_TYPE_CODE = multilineString(
+			"package io.sarl.lang.tests.compiler.batch",
+			"class MySarlType {",
+			"  def oneFunction : int {",
+			"    1",
+			"  }",
+			"}"
+			);
+
+	private static final String JAVA_CODE_WITHOUT_SARL_REFERENCE = multilineString(
+			"package io.sarl.lang.tests.compiler.batch;",
+			"public class MyJavaType {",
+			"  public static int twoFunction() {",
+			"    return 2;",
+			"  }",
+			"}"
+			);
+
+	private static final String JAVA_CODE_WITH_SARL_REFERENCE = multilineString(
+			"package io.sarl.lang.tests.compiler.batch;",
+			"public class MyJavaType {",
+			"  public static int twoFunction() {",
+			"    return new MySarlType().oneFunction() + 1;",
+			"  }",
+			"}"
+			);
+
 	@Inject
 	private Provider<SarlBatchCompiler> compilerProvider;
-	
+
+	@Inject
+	private Provider<RecordingSarlBatchCompiler> recordingCompilerProvider;
+
 	@Override
 	public void runBatchCompiler(File basePath, File sourcePath, File sarlcOutputFolder, File javacOutputFolder, File tempFolder) throws Exception {
 		SarlBatchCompiler compiler = this.compilerProvider.get();
@@ -69,4 +111,105 @@ public class SarlBatchCompilerTest extends AbstractBatchCompilerTest {
 		}
 	}
 
+	/** Compile a SARL type and, optionally, a Java type in the same package.
+	 */
+	private RecordingSarlBatchCompiler compileWithJava(String javaCode) throws Exception {
+		File tempDirectory = FileSystem.createTempDirectory("sarltests_" + getClass().getSimpleName()+ "_", "tmp");
+		try {
+			File sourceDirectory = new File(tempDirectory, "src");
+			File packageDirectory = makeFolder(sourceDirectory, "io", "sarl", "lang", "tests", "compiler", "batch");
+			packageDirectory.mkdirs();
+			Files.write(SARL_TYPE_CODE.getBytes(), new File(packageDirectory, "test.sarl"));
+			if (javaCode != null) {
+				Files.write(javaCode.getBytes(), new File(packageDirectory, "MyJavaType.java"));
+			}
+			File sarlcOutputDirectory = new File(tempDirectory, "src-gen");
+			sarlcOutputDirectory.mkdirs();
+			File buildDirectory = new File(tempDirectory, "build");
+			buildDirectory.mkdirs();
+			File javacOutputDirectory = new File(tempDirectory, "bin");
+			javacOutputDirectory.mkdirs();
+			//
+			RecordingSarlBatchCompiler compiler = this.recordingCompilerProvider.get();
+			compiler.setBasePath(tempDirectory.getAbsolutePath());
+			compiler.setSourcePath(sourceDirectory.getAbsolutePath());
+			compiler.setOutputPath(sarlcOutputDirectory);
+			compiler.setClassOutputPath(javacOutputDirectory);
+			compiler.setTempDirectory(buildDirectory);
+			compiler.setJavaCompilerVerbose(false);
+			compiler.setGenerateInlineAnnotation(false);
+			compiler.setReportInternalProblemsAsIssues(true);
+			final List<Issue> issues = new ArrayList<>();
+			compiler.addIssueMessageListener((issue, uri, message) -> {
+				issues.add(issue);
+			});
+			assertTrue(compiler.compile(), () -> "Compilation error: " + issues.toString());
+			//
+			File classDirectory = makeFolder(javacOutputDirectory, "io", "sarl", "lang", "tests", "compiler", "batch");
+			assertTrue(new File(classDirectory, "MySarlType.class").isFile());
+			if (javaCode != null) {
+				assertTrue(new File(classDirectory, "MyJavaType.class").isFile());
+			}
+			return compiler;
+		} finally {
+			FileSystem.delete(tempDirectory);
+		}
+	}
+
+	@Test
+	@DisplayName("Stubs without Java source file")
+	public void stubsWithoutJavaSource() throws Exception {
+		RecordingSarlBatchCompiler compiler = compileWithJava(null);
+		assertEquals(0, compiler.stubCreations);
+		assertEquals(0, compiler.javaPreCompilations);
+	}
+
+	@Test
+	@DisplayName("Stubs with Java source file that is not referencing SARL types")
+	public void stubsWithoutSarlReference() throws Exception {
+		RecordingSarlBatchCompiler compiler = compileWithJava(JAVA_CODE_WITHOUT_SARL_REFERENCE);
+		assertEquals(0, compiler.stubCreations);
+		assertEquals(1, compiler.javaPreCompilations);
+		assertNull(compiler.javaPreCompilationStubDirectory);
+	}
+
+	@Test
+	@DisplayName("Stubs with Java source file that is referencing SARL types")
+	public void stubsWithSarlReference() throws Exception {
+		RecordingSarlBatchCompiler compiler = compileWithJava(JAVA_CODE_WITH_SARL_REFERENCE);
+		assertEquals(1, compiler.stubCreations);
+		assertEquals(1, compiler.javaPreCompilations);
+		assertNotNull(compiler.javaPreCompilationStubDirectory);
+	}
+
+	/** Batch compiler that records the calls to the stages that are related to the Java source files.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 */
+	public static class RecordingSarlBatchCompiler extends SarlBatchCompiler {
+
+		int stubCreations;
+
+		int javaPreCompilations;
+
+		File javaPreCompilationStubDirectory;
+
+		@Override
+		protected File createStubs(ResourceSet resourceSet, IProgressMonitor progress) {
+			++this.stubCreations;
+			return super.createStubs(resourceSet, progress);
+		}
+
+		@Override
+		protected CompilerStatus preCompileJava(File sourceDirectory, File classDirectory, IProgressMonitor progress) {
+			++this.javaPreCompilations;
+			this.javaPreCompilationStubDirectory = sourceDirectory;
+			return super.preCompileJava(sourceDirectory, classDirectory, progress);
+		}
+
+	}
+
 }
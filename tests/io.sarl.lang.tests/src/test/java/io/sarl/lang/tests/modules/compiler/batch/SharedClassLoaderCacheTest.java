@@ -0,0 +1,127 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2021 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sarl.lang.tests.modules.compiler.batch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiFunction;
+
+import com.google.common.io.Files;
+import org.arakhne.afc.vmutil.FileSystem;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.sarl.lang.compiler.batch.SharedClassLoaderCache;
+import io.sarl.tests.api.AbstractSarlTest;
+
+/**
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.13
+ */
+@SuppressWarnings("all")
+@DisplayName("SharedClassLoaderCache")
+@Tag("core")
+@Tag("unit")
+public class SharedClassLoaderCacheTest extends AbstractSarlTest {
+
+	private static final BiFunction<List<File>, ClassLoader, ClassLoader> FACTORY = (files, parent) -> {
+		return new URLClassLoader(new URL[0], parent);
+	};
+
+	private File tempDirectory;
+
+	private File archive;
+
+	private SharedClassLoaderCache cache;
+
+	@BeforeEach
+	public void setUp() throws Exception {
+		this.tempDirectory = FileSystem.createTempDirectory("sarltests_" + getClass().getSimpleName()+ "_", "tmp");
+		this.archive = new File(this.tempDirectory, "lib.jar");
+		Files.write("a".getBytes(), this.archive);
+		this.cache = new SharedClassLoaderCache(1);
+	}
+
+	@AfterEach
+	public void tearDown() throws Exception {
+		FileSystem.delete(this.tempDirectory);
+	}
+
+	@Test
+	@DisplayName("Same archives")
+	public void sameArchives() throws Exception {
+		final ClassLoader parent = getClass().getClassLoader();
+		final ClassLoader loader1 = this.cache.acquire(Collections.singletonList(this.archive), parent, FACTORY);
+		this.cache.release(loader1);
+		final ClassLoader loader2 = this.cache.acquire(Collections.singletonList(this.archive), parent, FACTORY);
+		assertSame(loader1, loader2);
+		assertSame(parent, loader2.getParent());
+	}
+
+	@Test
+	@DisplayName("Changed archive")
+	public void changedArchive() throws Exception {
+		final ClassLoader parent = getClass().getClassLoader();
+		final ClassLoader loader1 = this.cache.acquire(Collections.singletonList(this.archive), parent, FACTORY);
+		this.cache.release(loader1);
+		Files.write("abc".getBytes(), this.archive);
+		final ClassLoader loader2 = this.cache.acquire(Collections.singletonList(this.archive), parent, FACTORY);
+		assertNotSame(loader1, loader2);
+	}
+
+	@Test
+	@DisplayName("Other parent")
+	public void otherParent() throws Exception {
+		final ClassLoader parent = getClass().getClassLoader();
+		final ClassLoader loader1 = this.cache.acquire(Collections.singletonList(this.archive), parent, FACTORY);
+		final ClassLoader loader2 = this.cache.acquire(Collections.singletonList(this.archive), null, FACTORY);
+		assertNotSame(loader1, loader2);
+	}
+
+	@Test
+	@DisplayName("Eviction of the unused class loaders")
+	public void eviction() throws Exception {
+		final ClassLoader parent = getClass().getClassLoader();
+		final ClassLoader loader1 = this.cache.acquire(Collections.singletonList(this.archive), parent, FACTORY);
+		final ClassLoader loader2 = this.cache.acquire(Collections.singletonList(this.archive), null, FACTORY);
+		// Both class loaders are used
+		assertEquals(2, this.cache.size());
+		this.cache.release(loader1);
+		assertEquals(1, this.cache.size());
+		this.cache.release(loader2);
+		assertEquals(1, this.cache.size());
+		assertSame(loader2, this.cache.acquire(Collections.singletonList(this.archive), null, FACTORY));
+	}
+
+}
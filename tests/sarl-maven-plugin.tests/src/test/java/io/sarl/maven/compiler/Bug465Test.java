@@ -61,12 +61,14 @@ public class Bug465Test extends AbstractMojoTest {
 				"import io.sarl.core.Initialize;",
 				"import io.sarl.core.Schedules;",
 				"import io.sarl.lang.annotation.ImportedCapacityFeature;",
+				"import io.sarl.lang.annotation.InlinableGuardEvaluator;",
 				"import io.sarl.lang.annotation.PerceptGuardEvaluator;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
 				"import io.sarl.lang.core.Agent;",
 				"import io.sarl.lang.core.AtomicSkillReference;",
+				"import io.sarl.lang.core.BehaviorGuardEvaluatorTable;",
 				"import io.sarl.lang.core.DynamicSkillProvider;",
 				"import io.sarl.lang.core.Event;",
 				"import io.sarl.maven.compiler.tests.Hello;",
@@ -117,12 +119,16 @@ public class Bug465Test extends AbstractMojoTest {
 				"}",
 				"@SyntheticMember",
 				"@PerceptGuardEvaluator",
+				"@InlinableGuardEvaluator",
 				"private void $guardEvaluator$Initialize(final Initialize occurrence, final Collection<Runnable> ___SARLlocal_runnableCollection) {",
 				"assert occurrence != null;",
 				"assert ___SARLlocal_runnableCollection != null;",
 				"___SARLlocal_runnableCollection.add(() -> $behaviorUnit$Initialize$0(occurrence));",
 				"}",
 				"@SyntheticMember",
+				"private static final BehaviorGuardEvaluatorTable<MyAgent> $GUARD_EVALUATOR_TABLE = BehaviorGuardEvaluatorTable.create(MyAgent.class)",
+				".add(Initialize.class, (receiver, event, callbacks) -> receiver.$guardEvaluator$Initialize((Initialize) event, callbacks));",
+				"@SyntheticMember",
 				"@Override",
 				"public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
 				"super.$getSupportedEvents(toBeFilled);",
@@ -132,9 +138,7 @@ public class Bug465Test extends AbstractMojoTest {
 				"@Override",
 				"public void $evaluateBehaviorGuards(final Object event, final Collection<Runnable> callbacks) {",
 				"super.$evaluateBehaviorGuards(event, callbacks);",
-				"if (event instanceof Initialize) {",
-				"final Initialize occurrence = (Initialize) event;",
-				"$guardEvaluator$Initialize(occurrence, callbacks);",
+				"$GUARD_EVALUATOR_TABLE.evaluate(this, event, callbacks);",
 				"}",
 				"}",
 				"@SyntheticMember",
@@ -59,11 +59,13 @@ public class Bug850Test extends AbstractMojoTest {
 
 	private static final String EXPECTED_AGENT1 = multilineString(
 			"package io.sarl.maven.bug850;",
+			"import io.sarl.lang.annotation.InlinableGuardEvaluator;",
 			"import io.sarl.lang.annotation.PerceptGuardEvaluator;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
 			"import io.sarl.lang.core.Agent;",
+			"import io.sarl.lang.core.BehaviorGuardEvaluatorTable;",
 			"import io.sarl.lang.core.DynamicSkillProvider;",
 			"import io.sarl.lang.core.Event;",
 			"import io.sarl.maven.bug850.CarRequestPercept;",
@@ -82,12 +84,16 @@ public class Bug850Test extends AbstractMojoTest {
 			"}",
 			"@SyntheticMember",
 			"@PerceptGuardEvaluator",
+			"@InlinableGuardEvaluator",
 			"private void $guardEvaluator$CarRequestPercept(final CarRequestPercept occurrence, final Collection<Runnable> ___SARLlocal_runnableCollection) {",
 			"assert occurrence != null;",
 			"assert ___SARLlocal_runnableCollection != null;",
 			"___SARLlocal_runnableCollection.add(() -> $behaviorUnit$CarRequestPercept$0(occurrence));",
 			"}",
 			"@SyntheticMember",
+			"private static final BehaviorGuardEvaluatorTable<Agent1> $GUARD_EVALUATOR_TABLE = BehaviorGuardEvaluatorTable.create(Agent1.class)",
+			".add(CarRequestPercept.class, (receiver, event, callbacks) -> receiver.$guardEvaluator$CarRequestPercept((CarRequestPercept) event, callbacks));",
+			"@SyntheticMember",
 			"@Override",
 			"public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
 			"super.$getSupportedEvents(toBeFilled);",
@@ -97,9 +103,7 @@ public class Bug850Test extends AbstractMojoTest {
 			"@Override",
 			"public void $evaluateBehaviorGuards(final Object event, final Collection<Runnable> callbacks) {",
 			"super.$evaluateBehaviorGuards(event, callbacks);",
-			"if (event instanceof CarRequestPercept) {",
-			"final CarRequestPercept occurrence = (CarRequestPercept) event;",
-			"$guardEvaluator$CarRequestPercept(occurrence, callbacks);",
+			"$GUARD_EVALUATOR_TABLE.evaluate(this, event, callbacks);",
 			"}",
 			"}",
 			"@SyntheticMember",
@@ -127,11 +131,13 @@ public class Bug850Test extends AbstractMojoTest {
 
 	private static final String EXPECTED_AGENT2 = multilineString(
 			"package io.sarl.maven.bug850;",
+			"import io.sarl.lang.annotation.InlinableGuardEvaluator;",
 			"import io.sarl.lang.annotation.PerceptGuardEvaluator;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
 			"import io.sarl.lang.core.Agent;",
+			"import io.sarl.lang.core.BehaviorGuardEvaluatorTable;",
 			"import io.sarl.lang.core.DynamicSkillProvider;",
 			"import io.sarl.lang.core.Event;",
 			"import io.sarl.maven.bug850.CarRequestPercept;",
@@ -152,12 +158,16 @@ public class Bug850Test extends AbstractMojoTest {
 			"}",
 			"@SyntheticMember",
 			"@PerceptGuardEvaluator",
+			"@InlinableGuardEvaluator",
 			"private void $guardEvaluator$CarRequestPercept(final CarRequestPercept occurrence, final Collection<Runnable> ___SARLlocal_runnableCollection) {",
 			"assert occurrence != null;",
 			"assert ___SARLlocal_runnableCollection != null;",
 			"___SARLlocal_runnableCollection.add(() -> $behaviorUnit$CarRequestPercept$0(occurrence));",
 			"}",
 			"@SyntheticMember",
+			"private static final BehaviorGuardEvaluatorTable<Agent2> $GUARD_EVALUATOR_TABLE = BehaviorGuardEvaluatorTable.create(Agent2.class)",
+			".add(CarRequestPercept.class, (receiver, event, callbacks) -> receiver.$guardEvaluator$CarRequestPercept((CarRequestPercept) event, callbacks));",
+			"@SyntheticMember",
 			"@Override",
 			"public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
 			"super.$getSupportedEvents(toBeFilled);",
@@ -167,9 +177,7 @@ public class Bug850Test extends AbstractMojoTest {
 			"@Override",
 			"public void $evaluateBehaviorGuards(final Object event, final Collection<Runnable> callbacks) {",
 			"super.$evaluateBehaviorGuards(event, callbacks);",
-			"if (event instanceof CarRequestPercept) {",
-			"final CarRequestPercept occurrence = (CarRequestPercept) event;",
-			"$guardEvaluator$CarRequestPercept(occurrence, callbacks);",
+			"$GUARD_EVALUATOR_TABLE.evaluate(this, event, callbacks);",
 			"}",
 			"}",
 			"@SyntheticMember",
@@ -198,11 +206,13 @@ public class Bug850Test extends AbstractMojoTest {
 
 	private static final String EXPECTED_AGENT3 = multilineString(
 			"package io.sarl.maven.bug850;",
+			"import io.sarl.lang.annotation.InlinableGuardEvaluator;",
 			"import io.sarl.lang.annotation.PerceptGuardEvaluator;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
 			"import io.sarl.lang.core.Agent;",
+			"import io.sarl.lang.core.BehaviorGuardEvaluatorTable;",
 			"import io.sarl.lang.core.DynamicSkillProvider;",
 			"import io.sarl.lang.core.Event;",
 			"import io.sarl.maven.bug850.CarRequestPercept;",
@@ -221,12 +231,16 @@ public class Bug850Test extends AbstractMojoTest {
 			"}",
 			"@SyntheticMember",
 			"@PerceptGuardEvaluator",
+			"@InlinableGuardEvaluator",
 			"private void $guardEvaluator$CarRequestPercept(final CarRequestPercept occurrence, final Collection<Runnable> ___SARLlocal_runnableCollection) {",
 			"assert occurrence != null;",
 			"assert ___SARLlocal_runnableCollection != null;",
 			"___SARLlocal_runnableCollection.add(() -> $behaviorUnit$CarRequestPercept$0(occurrence));",
 			"}",
 			"@SyntheticMember",
+			"private static final BehaviorGuardEvaluatorTable<Agent3> $GUARD_EVALUATOR_TABLE = BehaviorGuardEvaluatorTable.create(Agent3.class)",
+			".add(CarRequestPercept.class, (receiver, event, callbacks) -> receiver.$guardEvaluator$CarRequestPercept((CarRequestPercept) event, callbacks));",
+			"@SyntheticMember",
 			"@Override",
 			"public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
 			"super.$getSupportedEvents(toBeFilled);",
@@ -236,9 +250,7 @@ public class Bug850Test extends AbstractMojoTest {
 			"@Override",
 			"public void $evaluateBehaviorGuards(final Object event, final Collection<Runnable> callbacks) {",
 			"super.$evaluateBehaviorGuards(event, callbacks);",
-			"if (event instanceof CarRequestPercept) {",
-			"final CarRequestPercept occurrence = (CarRequestPercept) event;",
-			"$guardEvaluator$CarRequestPercept(occurrence, callbacks);",
+			"$GUARD_EVALUATOR_TABLE.evaluate(this, event, callbacks);",
 			"}",
 			"}",
 			"@SyntheticMember",
@@ -266,11 +278,13 @@ public class Bug850Test extends AbstractMojoTest {
 
 	private static final String EXPECTED_AGENT4 = multilineString(
 			"package io.sarl.maven.bug850;",
+			"import io.sarl.lang.annotation.InlinableGuardEvaluator;",
 			"import io.sarl.lang.annotation.PerceptGuardEvaluator;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
 			"import io.sarl.lang.core.Agent;",
+			"import io.sarl.lang.core.BehaviorGuardEvaluatorTable;",
 			"import io.sarl.lang.core.DynamicSkillProvider;",
 			"import io.sarl.lang.core.Event;",
 			"import io.sarl.maven.bug850.CarRequestPercept;",
@@ -290,12 +304,16 @@ public class Bug850Test extends AbstractMojoTest {
 			"}",
 			"@SyntheticMember",
 			"@PerceptGuardEvaluator",
+			"@InlinableGuardEvaluator",
 			"private void $guardEvaluator$CarRequestPercept(final CarRequestPercept occurrence, final Collection<Runnable> ___SARLlocal_runnableCollection) {",
 			"assert occurrence != null;",
 			"assert ___SARLlocal_runnableCollection != null;",
 			"___SARLlocal_runnableCollection.add(() -> $behaviorUnit$CarRequestPercept$0(occurrence));",
 			"}",
 			"@SyntheticMember",
+			"private static final BehaviorGuardEvaluatorTable<Agent4> $GUARD_EVALUATOR_TABLE = BehaviorGuardEvaluatorTable.create(Agent4.class)",
+			".add(CarRequestPercept.class, (receiver, event, callbacks) -> receiver.$guardEvaluator$CarRequestPercept((CarRequestPercept) event, callbacks));",
+			"@SyntheticMember",
 			"@Override",
 			"public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
 			"super.$getSupportedEvents(toBeFilled);",
@@ -305,9 +323,7 @@ public class Bug850Test extends AbstractMojoTest {
 			"@Override",
 			"public void $evaluateBehaviorGuards(final Object event, final Collection<Runnable> callbacks) {",
 			"super.$evaluateBehaviorGuards(event, callbacks);",
-			"if (event instanceof CarRequestPercept) {",
-			"final CarRequestPercept occurrence = (CarRequestPercept) event;",
-			"$guardEvaluator$CarRequestPercept(occurrence, callbacks);",
+			"$GUARD_EVALUATOR_TABLE.evaluate(this, event, callbacks);",
 			"}",
 			"}",
 			"@SyntheticMember",